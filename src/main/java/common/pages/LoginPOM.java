@@ -12,7 +12,8 @@ import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.WindowType;
 
-import utils.jks.JKSReader;
+import utils.secrets.Credentials;
+import utils.secrets.SecretCache;
 
 public class LoginPOM extends BasePage {
 
@@ -52,12 +53,9 @@ public class LoginPOM extends BasePage {
     }
     
     public void loginAsUser(String userType) {
-    	JKSReader reader = new JKSReader();
-    	String[] creds = reader.getSecret(userType).split(",");
-    	String username = creds[0];
-    	String password = creds[1];
-    	enterTextInField(usernameField, username.trim());
-    	enterTextInField(passwordField, password.trim());
+    	Credentials creds = SecretCache.credentials(userType);
+    	enterTextInField(usernameField, creds.username());
+    	enterTextInField(passwordField, creds.password());
     	clickLoginButton();
     }
     
@@ -78,12 +76,9 @@ public class LoginPOM extends BasePage {
 	}
 
 	public void LoginToOutlook(String userType) {
-	    	JKSReader reader = new JKSReader();
-    		String[] creds = reader.getSecret(userType).split(",");
-    		String username = creds[0];
-    		String password = creds[1];
-    		enterTextInField(outlookUserName, username.trim());
-    		enterTextInField(outlookPassword, password.trim());
+    		Credentials creds = SecretCache.credentials(userType);
+    		enterTextInField(outlookUserName, creds.username());
+    		enterTextInField(outlookPassword, creds.password());
     		clickElementBySelector(outlookLoginButton);
 		
 	}
@@ -98,12 +93,9 @@ public class LoginPOM extends BasePage {
 		ContextManager.put("HomeTab", HomeTab);
 		if (isElementVisible(siteUserName)) {
 	
-	    	JKSReader reader = new JKSReader();
-			String[] creds = reader.getSecret(user).split(",");
-			String username = creds[0];
-			String password = creds[1];
-			enterTextInField(siteUserName, username.trim());
-			enterTextInField(sitePassword, password.trim());
+			Credentials creds = SecretCache.credentials(user);
+			enterTextInField(siteUserName, creds.username());
+			enterTextInField(sitePassword, creds.password());
 			clickElementBySelector(siteLoginButton);
 		}
 	}
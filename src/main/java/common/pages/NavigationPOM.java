@@ -1,6 +1,8 @@
 package common.pages;
 
 import core.BasePage;
+import core.LocatorTemplate;
+import core.Locators;
 import static org.junit.Assert.*;
 
 import org.jcodec.common.logging.Logger;
@@ -16,7 +18,13 @@ public class NavigationPOM extends BasePage {
 	public static String btnSearch = "//button[@title='Expand search']";
 	public static String lnkShowMore = "//a[@id='%s' and text()='Show More']";
 	public static String lnkLocator = "//*[text()='%s']";
-	
+
+	private static final LocatorTemplate LNK_SHOW_MORE = Locators.template(lnkShowMore);
+	private static final LocatorTemplate LNK_LOCATOR = Locators.template(lnkLocator);
+
+	static {
+		Locators.validateClass(NavigationPOM.class);
+	}
 	
 	public NavigationPOM(WebDriver driver) {
 		super(driver);
@@ -63,14 +71,12 @@ public class NavigationPOM extends BasePage {
 		
 	
 	private void clickNavigationlnk(String text) {
-		String formattedLink = String.format(lnkLocator, text);
 		try {
-			clickElementBySelector(formattedLink);
+			clickElementBySelector(LNK_LOCATOR.by(text));
 			
 		}	catch (Exception e) {
 			Logger.debug("Option Not Found: "+ text);
-			formattedLink = String.format(lnkShowMore, text);
-			clickElementBySelector(formattedLink);
+			clickElementBySelector(LNK_SHOW_MORE.by(text));
 		}
 	}
 	
@@ -11,17 +11,19 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
-import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.nio.file.Path;
 
 
 import utils.config.ConfigReader;
+import utils.config.Configuration;
+import utils.reports.ScreenshotWriter;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -36,44 +38,220 @@ import java.util.List;
 public class BasePage {
     protected WebDriver driver;
     protected int timeoutInSeconds;
-    private WebDriverWait wait;
-    private static final long POLLING_INTERVAL_MS = 500;
+    // Upper bound for the wait engine's backoff; polls start at INITIAL_POLL_MS and double up to this
+    private static final long POLLING_INTERVAL_MS = Math.max(1, ConfigReader.getIntProperty("webdriver.polling.interval.ms", 500));
+    private static final long INITIAL_POLL_MS = 50;
+    // The page counts as idle once the DOM and network have been quiet this long
+    private static final long IDLE_QUIET_MS = Math.max(0, ConfigReader.getIntProperty("webdriver.idle.quiet.ms", 150));
+    // Upper bound for "page idle" waits that replace fixed sleeps; reaching it is not an error
+    private static final long IDLE_TIMEOUT_MS = Math.max(0, ConfigReader.getIntProperty("webdriver.idle.timeout.ms", 5000));
+    // Budget for the intermediate dropdown checks while typing, so a page that never goes quiet
+    // (spinners, polling) does not cost the full idle budget at every checkpoint
+    private static final long CHECKPOINT_TIMEOUT_MS = Math.max(0, ConfigReader.getIntProperty("webdriver.dropdown.checkpoint.ms", 400));
+    // Requests open longer than this (long polling, streaming) do not keep the page busy
+    private static final long LONG_REQUEST_MS = 10000;
+    // One executeAsyncScript call waits at most this long, below Selenium's default 30 s script timeout
+    private static final long DOM_WAIT_SLICE_MS = 20000;
     private String originalTab;
+    private static final int DEFAULT_TIMEOUT_SECONDS = 40;
+    // Filled in with test data, so compiled as templates rather than one interned locator per value
+    private static final LocatorTemplate TITLE_OPTION = Locators.template("//*[@title='%s']");
+    private static final LocatorTemplate DYNAMIC_TABLE_OPTION =
+            Locators.template("//*[starts-with(@class, 'oj-dynamic-table') and contains(text(), '%s')]");
     
 
     
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.originalTab = driver.getWindowHandle();
-        String timeoutStr = ConfigReader.getProperty("webdriver.wait.timeout");  
-        int timeout;
+        // Typed value from the loaded snapshot: no parsing or I/O per page object
+        this.timeoutInSeconds = Configuration.current().getInt("webdriver.wait.timeout", DEFAULT_TIMEOUT_SECONDS);
+    }
 
-        try {
-            timeout = Integer.parseInt(timeoutStr);
-            LOGGER.info("📌 Timeout set to: " + timeout + " seconds.");
-        } catch (Exception e) {
-            timeout = 40; // fallback default
-            LOGGER.info("⚠️ Timeout config missing or invalid. Using default: " + timeout + " seconds.");
+    /**
+     * Deadline-based wait engine shared by every click/type/wait helper in this class.
+     *
+     * Polls {@code condition} until it returns something other than null or false, and returns that value.
+     * The deadline is taken from System.nanoTime, so clock changes do not stretch or cut it short. Polls
+     * back off from 50 ms up to {@code webdriver.polling.interval.ms}. NotFound and stale element errors
+     * count as "not yet"; anything else propagates straight away.
+     *
+     * @throws TimeoutException once {@code budget} has elapsed
+     */
+    public static <T> T waitUntil(WebDriver driver, Function<? super WebDriver, T> condition, Duration budget, String description) {
+        long deadline = System.nanoTime() + budget.toNanos();
+        long pollMs = Math.min(INITIAL_POLL_MS, POLLING_INTERVAL_MS);
+        RuntimeException lastError = null;
+
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    return value;
+                }
+                lastError = null;
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                throw new TimeoutException("❌ Timed out after " + budget.toMillis() + "ms waiting for "
+                        + (description != null ? description : condition), lastError);
+            }
+            try {
+                Thread.sleep(Math.min(pollMs, remainingMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("❌ Interrupted while waiting for " + (description != null ? description : condition), e);
+            }
+            pollMs = Math.min(pollMs * 2, POLLING_INTERVAL_MS);
+        }
+    }
+
+    // Evaluates a DomCondition in the page. Re-checks on every DOM mutation, plus a light in-page timer for
+    // changes that do not mutate the DOM (layout, CSS, input properties), and answers when it holds or the slice ends.
+    private static final String DOM_WAIT_SCRIPT = """
+        var kind = arguments[0], locators = arguments[1], name = arguments[2], expected = arguments[3];
+        var sliceMs = arguments[4], done = arguments[arguments.length - 1];
+        var find = function (locator) {
+            if (locator[0] === 'css selector') return Array.prototype.slice.call(document.querySelectorAll(locator[1]));
+            var snapshot = document.evaluate(locator[1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+            var found = [];
+            for (var i = 0; i < snapshot.snapshotLength; i++) found.push(snapshot.snapshotItem(i));
+            return found;
+        };
+        var visible = function (el) {
+            if (!(el instanceof Element)) return false;
+            var box = el.getBoundingClientRect(), style = window.getComputedStyle(el);
+            return box.width > 0 && box.height > 0 && style.visibility !== 'hidden'
+                && style.display !== 'none' && style.opacity !== '0';
+        };
+        var evaluate = function () {
+            if (kind === 'present') {
+                for (var i = 0; i < locators.length; i++) {
+                    var all = find(locators[i]);
+                    if (all.length) return all[0];
+                }
+                return null;
+            }
+            var el = find(locators[0])[0];
+            switch (kind) {
+                case 'visible': return el && visible(el) ? el : null;
+                case 'hidden': return !el || !visible(el);
+                case 'text': return !!el && (el.innerText || el.textContent || '').trim() === expected;
+                case 'attribute':
+                    if (!el) return null;
+                    var attr = el.getAttribute(name), prop = el[name];
+                    return (attr !== null && String(attr) === expected) || (prop != null && String(prop) === expected) ? el : null;
+            }
+            throw new Error('Unknown DOM condition: ' + kind);
+        };
+        var finished = false, observer = null, interval = null, timer = null;
+        var finish = function (result) {
+            if (finished) return;
+            finished = true;
+            if (observer) observer.disconnect();
+            clearInterval(interval);
+            clearTimeout(timer);
+            done(result);
+        };
+        var check = function () {
+            try {
+                var value = evaluate();
+                if (value) finish({matched: true, value: value});
+            } catch (e) {
+                finish({matched: false, error: String(e)});
+            }
+        };
+        check();
+        if (finished) return;
+        observer = new MutationObserver(check);
+        observer.observe(document, {childList: true, subtree: true, attributes: true, characterData: true});
+        interval = setInterval(check, 250);
+        timer = setTimeout(function () { finish({matched: false}); }, sliceMs);
+        """;
+
+    /**
+     * Blocks until {@code condition} holds in the page, using a MutationObserver and a single async-script
+     * call per 20 s slice instead of a protocol round trip per poll. Returns the matched element for element
+     * conditions, otherwise Boolean.TRUE. A navigation mid-wait just starts a new slice on the new document.
+     *
+     * @throws TimeoutException once {@code budget} has elapsed
+     */
+    public static Object waitForDom(WebDriver driver, DomCondition condition, Duration budget) {
+        if (!condition.runsInPage()) {
+            return waitUntil(driver, condition.fallback(), budget, condition.toString());
+        }
+
+        long deadline = System.nanoTime() + budget.toNanos();
+        WebDriverException lastError = null;
+        while (true) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                throw new TimeoutException("❌ Timed out after " + budget.toMillis() + "ms waiting for " + condition, lastError);
+            }
+            try {
+                Object raw = ((JavascriptExecutor) driver).executeAsyncScript(DOM_WAIT_SCRIPT,
+                        condition.kind(), condition.locators(), condition.name(), condition.expected(),
+                        Math.min(remainingMs, DOM_WAIT_SLICE_MS));
+                if (raw instanceof java.util.Map<?, ?> result) {
+                    if (result.get("error") != null) {
+                        throw new WebDriverException("❌ DOM wait failed for " + condition + ": " + result.get("error"));
+                    }
+                    if (Boolean.TRUE.equals(result.get("matched"))) {
+                        return result.get("value");
+                    }
+                }
+            } catch (ScriptTimeoutException | JavascriptException | StaleElementReferenceException e) {
+                // document unloaded mid-wait, or a script timeout shorter than the slice: try again on the current page
+                lastError = e;
+                try {
+                    Thread.sleep(INITIAL_POLL_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new WebDriverException("❌ Interrupted while waiting for " + condition, ie);
+                }
+            }
         }
+    }
 
-        this.timeoutInSeconds = timeout;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+    protected Object waitForDom(DomCondition condition) {
+        return waitForDom(driver, condition, defaultBudget());
     }
 
+    protected <T> T until(Function<? super WebDriver, T> condition) {
+        return until(condition, defaultBudget());
+    }
+
+    protected <T> T until(Function<? super WebDriver, T> condition, Duration budget) {
+        return waitUntil(driver, condition, budget, null);
+    }
+
+    protected Duration defaultBudget() {
+        return Duration.ofSeconds(timeoutInSeconds);
+    }
+
+    // Compiled once per distinct locator string, see Locators
     private By getSelector(String locator) {
-        String trimmed = locator.trim();
-        if (trimmed.startsWith("/") || trimmed.startsWith("(")) {
-            return By.xpath(trimmed);
-        }
-        return By.cssSelector(trimmed);
+        return Locators.get(locator);
     }
 
     protected WebElement waitForSelector(String locator) {
-        return wait.until(ExpectedConditions.elementToBeClickable(getSelector(locator)));
+        return waitForSelector(getSelector(locator));
+    }
+
+    protected WebElement waitForSelector(By selector) {
+        long start = System.nanoTime();
+        try {
+            return until(ExpectedConditions.elementToBeClickable(selector));
+        } finally {
+            Locators.recordLookup(selector, System.nanoTime() - start);
+        }
     }
     
     protected WebElement waitForElement(WebElement Selector) {
-        return wait.until(ExpectedConditions.elementToBeClickable(Selector));
+        return until(ExpectedConditions.elementToBeClickable(Selector));
     }
 
     private boolean isElementOnTop(WebElement element) {
@@ -123,78 +301,200 @@ public class BasePage {
         }
     }
     
-    private void clickElementBySelector(By selector, long timeoutMs) {
-        long endTime = System.currentTimeMillis() + timeoutMs;
-        boolean clicked = false;
+    // Evaluates every candidate for a locator in one round trip and returns the first actionable one:
+    // scrolled into view if needed, visible, enabled and not covered at its centre point.
+    private static final String CLICKABLE_PROBE = """
+        var using = arguments[0], value = arguments[1], candidates = arguments[2];
+        if (!candidates) {
+            if (using === 'css selector') {
+                candidates = document.querySelectorAll(value);
+            } else {
+                var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+                candidates = [];
+                for (var i = 0; i < snapshot.snapshotLength; i++) candidates.push(snapshot.snapshotItem(i));
+            }
+        }
+        var result = {count: candidates.length, element: null, reason: null};
+        for (var j = 0; j < candidates.length; j++) {
+            var el = candidates[j];
+            if (!(el instanceof Element)) continue;
+            var box = el.getBoundingClientRect();
+            var vw = window.innerWidth || document.documentElement.clientWidth;
+            var vh = window.innerHeight || document.documentElement.clientHeight;
+            if (box.top < 0 || box.left < 0 || box.bottom > vh || box.right > vw) {
+                el.scrollIntoView({block: 'center'});
+                box = el.getBoundingClientRect();
+            }
+            var style = window.getComputedStyle(el);
+            if (box.width === 0 || box.height === 0 || style.visibility === 'hidden' || style.display === 'none') {
+                result.reason = 'not visible';
+                continue;
+            }
+            if (el.disabled || el.getAttribute('aria-disabled') === 'true') {
+                result.reason = 'not enabled';
+                continue;
+            }
+            var top = document.elementFromPoint(box.left + box.width / 2, box.top + box.height / 2);
+            if (top === el || el.contains(top)) {
+                result.element = el;
+                return result;
+            }
+            result.reason = 'overlapped by another element';
+        }
+        return result;
+        """;
+
+    private void clickElementBySelector(By selector, Duration budget) {
         LOGGER.debug("Attempting to click element(s) located by: " + selector);
+        long start = System.nanoTime();
+        try {
+            waitUntil(driver, d -> tryClick(selector), budget, "clickable element " + selector);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Failed to click element: " + selector + " within timeout of " + budget.toMillis() + "ms.");
+            throw e;
+        } finally {
+            Locators.recordLookup(selector, System.nanoTime() - start);
+        }
+    }
 
-        while (System.currentTimeMillis() < endTime && !clicked) {
-            List<WebElement> elements = driver.findElements(selector);
-            if (elements.isEmpty()) {
-                LOGGER.debug("No elements found for locator " + selector + " yet.");
-            } else {
-                LOGGER.info("Found " + elements.size() + " element(s) for locator " + selector + ". Checking clickability...");
+    private boolean tryClick(By selector) {
+        WebElement element = findClickableElement(selector);
+        if (element == null) {
+            return false;
+        }
+        try {
+            LOGGER.info("Clicking element: " + selector);
+            element.click();
+            LOGGER.info("Element clicked successfully.");
+            return true;
+        } catch (ElementClickInterceptedException e) {
+            LOGGER.debug("Element was covered when the click landed, retrying.");
+            return false;
+        }
+    }
+
+    // Installs (once per document) a MutationObserver plus fetch/XHR counters, then reports page activity:
+    // DOM change counter, ms since the last DOM change or finished request, requests in flight, readyState.
+    private static final String PAGE_ACTIVITY_PROBE = """
+        var w = window;
+        if (!w.__pageActivity) {
+            var state = w.__pageActivity = {version: 0, lastChange: performance.now(), lastRequest: 0, requests: {}, nextId: 0};
+            new MutationObserver(function () { state.version++; state.lastChange = performance.now(); })
+                .observe(document, {childList: true, subtree: true, characterData: true});
+            var begin = function () { var id = state.nextId++; state.requests[id] = performance.now(); return id; };
+            var end = function (id) { delete state.requests[id]; state.lastRequest = performance.now(); };
+            if (w.fetch) {
+                var originalFetch = w.fetch;
+                w.fetch = function () {
+                    var id = begin();
+                    return originalFetch.apply(this, arguments).finally(function () { end(id); });
+                };
             }
+            var originalSend = XMLHttpRequest.prototype.send;
+            XMLHttpRequest.prototype.send = function () {
+                var id = begin();
+                this.addEventListener('loadend', function () { end(id); });
+                return originalSend.apply(this, arguments);
+            };
+        }
+        var a = w.__pageActivity, now = performance.now(), active = 0;
+        for (var key in a.requests) if (now - a.requests[key] < arguments[0]) active++;
+        return {version: a.version, quietFor: Math.min(now - a.lastChange, now - a.lastRequest),
+                active: active, ready: document.readyState === 'complete'};
+        """;
 
-            for (WebElement element : elements) {
-                JavascriptExecutor js = (JavascriptExecutor) driver;
+    private java.util.Map<?, ?> pageActivity() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(PAGE_ACTIVITY_PROBE, LONG_REQUEST_MS);
+        return raw instanceof java.util.Map<?, ?> activity ? activity : java.util.Map.of();
+    }
 
-                // Check if element is in viewport
-                boolean inViewport = (Boolean) js.executeScript(
-                    "var elem = arguments[0], box = elem.getBoundingClientRect();" +
-                    "return (box.top >= 0 && box.left >= 0 && box.bottom <= (window.innerHeight || document.documentElement.clientHeight) &&" +
-                    "box.right <= (window.innerWidth || document.documentElement.clientWidth));",
-                    element
-                );
+    private static long number(java.util.Map<?, ?> activity, String key) {
+        return activity.get(key) instanceof Number n ? n.longValue() : 0;
+    }
 
-                if (!inViewport) {
-                    LOGGER.debug("Element is outside viewport. Scrolling to bring it into view.");
-                    js.executeScript("arguments[0].scrollIntoView({block: 'center'});", element);
-                }
+    private static boolean isQuiet(java.util.Map<?, ?> activity) {
+        return Boolean.TRUE.equals(activity.get("ready"))
+                && number(activity, "active") == 0
+                && number(activity, "quietFor") >= IDLE_QUIET_MS;
+    }
 
-                if (!element.isDisplayed()) {
-                    LOGGER.debug("Element found but not visible (isDisplayed() == false). Skipping this element.");
-                    continue;
-                }
+    /**
+     * Waits until the document is loaded, no fetch/XHR is in flight and the DOM has stopped changing
+     * for {@code webdriver.idle.quiet.ms}. Returns false (without failing) when {@code budget} runs out.
+     *
+     * Requests are only counted once the page has been probed, so call this (or any helper using it)
+     * before triggering the activity when possible.
+     */
+    public boolean waitForPageIdle(Duration budget) {
+        try {
+            waitUntil(driver, d -> isQuiet(pageActivity()), budget, "page to become idle");
+            return true;
+        } catch (TimeoutException e) {
+            LOGGER.debug("Page still busy after " + budget.toMillis() + "ms, continuing.");
+            return false;
+        }
+    }
 
-                if (!element.isEnabled()) {
-                    LOGGER.debug("Element found but not enabled (isEnabled() == false). Skipping this element.");
-                    continue;
-                }
+    public boolean waitForPageIdle() {
+        return waitForPageIdle(Duration.ofMillis(IDLE_TIMEOUT_MS));
+    }
 
-                // Check if element is not overlapped
-                Boolean isTopElement = (Boolean) js.executeScript(
-                    "var elem = arguments[0];" +
-                    "var rect = elem.getBoundingClientRect();" +
-                    "var cx = rect.left + (rect.width / 2);" +
-                    "var cy = rect.top + (rect.height / 2);" +
-                    "var topElem = document.elementFromPoint(cx, cy);" +
-                    "return (topElem === elem || elem.contains(topElem));",
-                    element
-                );
-
-                if (Boolean.TRUE.equals(isTopElement)) {
-                    LOGGER.info("Clicking element: " + selector);
-                    element.click();
-                    LOGGER.info("Element clicked successfully.");
-                    clicked = true;
-                    break;
-                } else {
-                    LOGGER.debug("Element is overlapped by another element (not top at its center). Skipping this element.");
+    /**
+     * After typing into a lookup field: waits for the suggestions to re-render (the DOM changed since
+     * {@code versionBefore}) and settle. If nothing changes, gives up after {@code minPauseMs} once the
+     * network is quiet, so an unchanged list does not cost the full idle budget. Never waits longer
+     * than {@code max(minPauseMs, budgetMs)}.
+     */
+    private void waitForOptionsUpdate(long versionBefore, long minPauseMs, long budgetMs) {
+        long start = System.nanoTime();
+        try {
+            waitUntil(driver, d -> {
+                java.util.Map<?, ?> activity = pageActivity();
+                if (number(activity, "active") > 0 || number(activity, "quietFor") < IDLE_QUIET_MS) {
+                    return false;
                 }
-            }
+                return number(activity, "version") != versionBefore
+                        || TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= minPauseMs;
+            }, Duration.ofMillis(Math.max(minPauseMs, budgetMs)), "dropdown options to update");
+        } catch (TimeoutException e) {
+            LOGGER.debug("Dropdown options still changing after " + Math.max(minPauseMs, budgetMs) + "ms, continuing.");
         }
+    }
 
-        if (!clicked) {
-            LOGGER.warn("Failed to click element: " + selector + " within timeout of " + timeoutMs + "ms.");
+    /**
+     * Runs {@link #CLICKABLE_PROBE} for {@code selector}. CSS and XPath locators are resolved inside the
+     * script; any other locator type is found with findElements first and handed to the script.
+     */
+    private WebElement findClickableElement(By selector) {
+        List<Object> pageLocator = Locators.pageLocator(selector);
+        Object using = pageLocator != null ? pageLocator.get(0) : null;
+        Object value = pageLocator != null ? pageLocator.get(1) : null;
+        List<WebElement> candidates = pageLocator == null ? driver.findElements(selector) : null;
+
+        Object raw = ((JavascriptExecutor) driver).executeScript(CLICKABLE_PROBE, using, value, candidates);
+        if (!(raw instanceof java.util.Map<?, ?> result)) {
+            return null;
+        }
+        Object count = result.get("count");
+        if (count instanceof Number n && n.intValue() == 0) {
+            LOGGER.debug("No elements found for locator " + selector + " yet.");
+        } else if (result.get("element") == null) {
+            LOGGER.debug("Found " + count + " element(s) for locator " + selector + " but none clickable: " + result.get("reason"));
         }
+        return result.get("element") instanceof WebElement element ? element : null;
     }
 
     public void clickElementBySelector(String thisSelector) {
-    	By selector = getSelector(thisSelector);
-        long endTime = System.currentTimeMillis() + timeoutInSeconds * 1000L;
-        clickElementBySelector(selector, endTime);
-    }   
+        clickElementBySelector(getSelector(thisSelector), defaultBudget());
+    }
+
+    public void clickElementBySelector(String thisSelector, Duration budget) {
+        clickElementBySelector(getSelector(thisSelector), budget);
+    }
+
+    public void clickElementBySelector(By selector) {
+        clickElementBySelector(selector, defaultBudget());
+    }
     
 
     public void enterTextInField(String locator, String text) {
@@ -238,22 +538,21 @@ public class BasePage {
     public void selectDropDownOptionByClicks(String locator, String value) {
     	WebElement selector = waitForSelector(locator);
     	selector.click();
-    	String dropdownSelector= String.format("//*[@title='%s']", value);
-    	WebElement dropdownValue = waitForSelector(dropdownSelector);
+    	WebElement dropdownValue = waitForSelector(TITLE_OPTION.by(value));
     	dropdownValue.click();
     	
     }
     
     private boolean isDropdownVisible(String dropdownLocator) {
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(getSelector(dropdownLocator))).isDisplayed();
+            return until(ExpectedConditions.visibilityOfElementLocated(getSelector(dropdownLocator))).isDisplayed();
         } catch (Exception e) {
             return false;
         }
     }
 
     private void clickFirstDropdownOption(String dropdownLocator) {
-        WebElement firstOption = wait.until(ExpectedConditions.elementToBeClickable(
+        WebElement firstOption = until(ExpectedConditions.elementToBeClickable(
             getSelector(dropdownLocator)
         ));
         firstOption.click();
@@ -299,7 +598,7 @@ public class BasePage {
 
     public void focusOnModal(String modalLocator) {
         try {
-            WebElement modal = wait.until(ExpectedConditions.visibilityOfElementLocated(getSelector(modalLocator)));
+            WebElement modal = until(ExpectedConditions.visibilityOfElementLocated(getSelector(modalLocator)));
             driver.switchTo().activeElement();
             Logger.info("✅ Switched to modal.");
         } catch (Exception e) {
@@ -309,7 +608,7 @@ public class BasePage {
 
     public void closeModalWindow(String closeButtonLocator) {
         try {
-            clickElementBySelector(getSelector(closeButtonLocator), timeoutInSeconds * 1000L);
+            clickElementBySelector(getSelector(closeButtonLocator), defaultBudget());
             Logger.info("✅ Modal closed.");
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to close modal.", e);
@@ -318,7 +617,7 @@ public class BasePage {
 
     public void handleJavaScriptAlert(String action, String inputText) {
         try {
-            wait.until(ExpectedConditions.alertIsPresent());
+            until(ExpectedConditions.alertIsPresent());
             Alert alert = driver.switchTo().alert();
 
             switch (action.toLowerCase()) {
@@ -344,7 +643,7 @@ public class BasePage {
     }
     
     public void sendCTRLKeyToSelector(String selector, Keys sendKeyPress) {
-    	WebElement input = new WebDriverWait(driver, Duration.ofSeconds(10)).until(ExpectedConditions.elementToBeClickable(By.xpath(selector)));
+    	WebElement input = until(ExpectedConditions.elementToBeClickable(By.xpath(selector)), Duration.ofSeconds(10));
     	input.click();
     	input.sendKeys(Keys.END);
     	input.sendKeys(sendKeyPress);
@@ -352,7 +651,7 @@ public class BasePage {
 
     public String getToastPopupMessage(String toastLocator) {
         try {
-            WebElement toast = wait.until(ExpectedConditions.visibilityOfElementLocated(getSelector(toastLocator)));
+            WebElement toast = until(ExpectedConditions.visibilityOfElementLocated(getSelector(toastLocator)));
             return toast.getText();
         } catch (Exception e) {
             throw new RuntimeException("❌ Toast message not found: " + toastLocator, e);
@@ -369,16 +668,12 @@ public class BasePage {
 
     public String captureScreenshot(String screenshotName) {
         try {
-            File srcFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
 
             // Align with Hooks.java reportDir
             String reportDir = core.Hooks.getReportDirectory(); // Add a getter for reportDir in Hooks.java
-            String screenshotDir = reportDir + "/screenshots";
-            new File(screenshotDir).mkdirs();
-
-            String screenshotPath = screenshotDir + "/" + screenshotName + ".png";
-            File destFile = new File(screenshotPath);
-            Files.copy(srcFile.toPath(), destFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            String screenshotPath = reportDir + "/screenshots/" + screenshotName + ".png";
+            ScreenshotWriter.write(Path.of(screenshotPath), screenshot);
 
             Logger.info("✅ Screenshot taken: " + screenshotPath);
             return screenshotPath;
@@ -447,10 +742,10 @@ public class BasePage {
     public void waitUntilElementVisible(String locator, boolean shouldBeVisible) {
         try {
             if (shouldBeVisible) {
-                wait.until(ExpectedConditions.visibilityOfElementLocated(getSelector(locator)));
+                waitForDom(DomCondition.visible(getSelector(locator)));
                 Logger.info("✅ Element is visible: " + locator);
             } else {
-                wait.until(ExpectedConditions.invisibilityOfElementLocated(getSelector(locator)));
+                waitForDom(DomCondition.hidden(getSelector(locator)));
                 Logger.info("✅ Element is not visible: " + locator);
             }
         } catch (Exception e) {
@@ -463,13 +758,16 @@ public class BasePage {
     	waitUntilElementVisible(locator, true);
     }
     
+    /**
+     * Waits for the page to go idle (see {@link #waitForPageIdle(Duration)}), for at most {@code durationSeconds}.
+     */
     public void shortWait(int durationSeconds) throws Exception {
-    	Thread.sleep(durationSeconds*1000L);
+    	waitForPageIdle(Duration.ofSeconds(durationSeconds));
     }
 
     public void waitUntilTextAppears(String locator, String expectedText) {
         try {
-            wait.until(ExpectedConditions.textToBe(getSelector(locator), expectedText));
+            waitForDom(DomCondition.textIs(getSelector(locator), expectedText));
             LOGGER.info("✅ Expected text appeared: " + expectedText);
         } catch (Exception e) {
         	LOGGER.error("✘ Text did not appear within Expected TimeLimit");
@@ -542,7 +840,7 @@ public class BasePage {
             WebElement input = waitForSelector(inputLocator);
             input.click();
 
-            wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(getSelector(listItemsLocator)));
+            until(ExpectedConditions.visibilityOfAllElementsLocatedBy(getSelector(listItemsLocator)));
 
             java.util.List<WebElement> items = driver.findElements(getSelector(listItemsLocator));
 
@@ -569,8 +867,7 @@ public class BasePage {
     
     public void typeAndSelectOption(String locator, String text, int delay) {
         try {
-            String dropdownXPath = "//*[starts-with(@class, 'oj-dynamic-table') and contains(text(), '" + text + "')]";
-            typeIntoFieldAndSelect(locator, text, dropdownXPath, delay, true);
+            typeIntoFieldAndSelect(locator, text, DYNAMIC_TABLE_OPTION.by(text), delay, true);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RuntimeException("❌ Interrupted while typing and selecting.", e);
@@ -697,10 +994,8 @@ public class BasePage {
 	
 	public void checkElementProperty(String xpath, String attributeName, String expectedValue) {
 	    try {
-	        WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(By.xpath(xpath)));
-
-	        // Wait until the attribute has the expected value
-	        wait.until(ExpectedConditions.attributeToBe(element, attributeName, expectedValue));
+	        // Wait until the element exists and the attribute has the expected value
+	        WebElement element = (WebElement) waitForDom(DomCondition.attributeIs(By.xpath(xpath), attributeName, expectedValue));
 
 	        String actualValue = element.getDomProperty(attributeName);
 	        assertTrue("❌ Expected attribute '" + attributeName + "' to be '" + expectedValue 
@@ -774,8 +1069,7 @@ public class BasePage {
 	
 	 // Open a new tab and navigate to a URL
     public void openNewTab(String url) throws InterruptedException {
-        driver.switchTo().newWindow(WindowType.TAB);
-        Thread.sleep(1000);
+        driver.switchTo().newWindow(WindowType.TAB); // returns once the new tab has focus
         driver.get(url);
         Logger.info("New Tab opened for URL: "+ url);
     }
@@ -805,8 +1099,11 @@ public class BasePage {
 	
 	
 	private void typeIntoFieldAndSelect(String inputLocator, String fullText, String dropdownLocator, int delay, boolean checkAllMatches) throws InterruptedException {
+	    typeIntoFieldAndSelect(inputLocator, fullText, getSelector(dropdownLocator), delay, checkAllMatches);
+	}
+
+	private void typeIntoFieldAndSelect(String inputLocator, String fullText, By dropdownSelector, int delay, boolean checkAllMatches) throws InterruptedException {
 	    WebElement input = waitForSelector(inputLocator);
-	    By dropdownSelector = getSelector(dropdownLocator);
 
 	    int attempt = 0;
 	    boolean success = false;
@@ -816,16 +1113,18 @@ public class BasePage {
 	        input.clear();
 	        input.sendKeys(Keys.chord(Keys.CONTROL, "a"), Keys.DELETE);
 
-	        StringBuilder typed = new StringBuilder();
+	        // Keys go in batches, and the dropdown is checked at the same points as before: after 3
+	        // characters, then at every even length. Between batches we only wait for the options to update.
+	        int typedLength = 0;
+	        for (int checkpoint : dropdownCheckpoints(fullText.length())) {
+	            long domVersion = number(pageActivity(), "version");
+	            input.sendKeys(fullText.substring(typedLength, checkpoint));
+	            typedLength = checkpoint;
 
-	        for (int i = 0; i < fullText.length(); i++) {
-	            char c = fullText.charAt(i);
-	            typed.append(c);
-	            input.sendKeys(String.valueOf(c));
-	            Thread.sleep(100);
-
-	            if (typed.length() >= 3 && (typed.length() == 3 || typed.length() % 2 == 0)) {
-	                Thread.sleep(delay);
+	            if (typedLength >= 3) {
+	                // Short budget while typing; the full text gets the full idle budget to settle
+	                boolean finalCheckpoint = typedLength == fullText.length();
+	                waitForOptionsUpdate(domVersion, delay, finalCheckpoint ? IDLE_TIMEOUT_MS : CHECKPOINT_TIMEOUT_MS);
 
 	                if (checkAllMatches) {
 	                    List<WebElement> matches = driver.findElements(dropdownSelector);
@@ -857,7 +1156,7 @@ public class BasePage {
 	            success = true;
 	        } else {
 	            Logger.warn("⚠️ Text mismatch after attempt " + (attempt + 1) + ": expected '" + fullText + "', found '" + actual + "'");
-	            Thread.sleep(2000);
+	            waitForPageIdle();
 	        }
 
 	        attempt++;
@@ -871,6 +1170,17 @@ public class BasePage {
 	    }
 	}
 
+	// Lengths at which typeIntoFieldAndSelect looks at the dropdown: 3, then every even length, then the full text
+	private static List<Integer> dropdownCheckpoints(int length) {
+	    List<Integer> checkpoints = new ArrayList<>();
+	    for (int n = 1; n <= length; n++) {
+	        if (n == length || (n >= 3 && (n == 3 || n % 2 == 0))) {
+	            checkpoints.add(n);
+	        }
+	    }
+	    return checkpoints;
+	}
+
 	private WebElement getFirstVisibleElement(By selector) {
 	    List<WebElement> elements = driver.findElements(selector);
 	    for (WebElement el : elements) {
@@ -897,10 +1207,9 @@ public class BasePage {
 	
 		waitUntilElementVisible(menuOption);
     	clickElementBySelector(menuOption);
-        Thread.sleep(500);
-        WebElement logOut= driver.findElement(By.xpath(Option));
+        WebElement logOut= until(ExpectedConditions.presenceOfElementLocated(By.xpath(Option)));
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", logOut);
-        Thread.sleep(1000);
+        waitForPageIdle();
 	}
 	
 	public static WebElement waitForPresence(WebDriver driver, int timeoutInSeconds, By... locators) {
@@ -908,18 +1217,8 @@ public class BasePage {
 	        throw new IllegalArgumentException("At least one locator must be provided.");
 	    }
 
-	    WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
-
 	    try {
-	        return wait.until(driver1 -> {
-	            for (By locator : locators) {
-	                List<WebElement> elements = driver1.findElements(locator);
-	                if (!elements.isEmpty()) {
-	                    return elements.get(0);
-	                }
-	            }
-	            return null;
-	        });
+	        return (WebElement) waitForDom(driver, DomCondition.present(locators), Duration.ofSeconds(timeoutInSeconds));
 	    } catch (TimeoutException e) {
 	        throw new TimeoutException("None of the expected elements were found within " + timeoutInSeconds + " seconds.", e);
 	    }
@@ -929,12 +1228,11 @@ public class BasePage {
 	public void clickOptions(String locator) throws Exception {
 		WebElement thisOption= driver.findElement(By.xpath(locator));
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", thisOption);
-        Thread.sleep(500);
+        waitForPageIdle();
 	}
 	
 	public void mouseOverAndClick(String locator) throws Exception {
-		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-		WebElement screenObject = wait.until(ExpectedConditions.visibilityOfElementLocated(By.xpath(locator)));
+		WebElement screenObject = until(ExpectedConditions.visibilityOfElementLocated(By.xpath(locator)), Duration.ofSeconds(10));
 		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center', inline: 'nearest'});", screenObject);
 		Actions actions = new Actions(driver);
 		actions.moveToElement(screenObject).click().perform();
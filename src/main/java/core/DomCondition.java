@@ -0,0 +1,120 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+/**
+ * A condition that {@link BasePage#waitForDom(WebDriver, DomCondition, java.time.Duration)} evaluates
+ * inside the page, re-checking it whenever the DOM mutates instead of polling over the wire.
+ *
+ * Element conditions look at the first element the locator finds, like the ExpectedConditions they
+ * replace. Locators other than CSS/XPath cannot be resolved in the page; those conditions fall back
+ * to the equivalent ExpectedCondition on the polling engine.
+ */
+public final class DomCondition {
+
+	private final String kind;
+	private final List<List<Object>> locators;
+	private final String name;
+	private final String expected;
+	private final Function<WebDriver, ?> fallback;
+	private final String description;
+
+	private DomCondition(String kind, By[] selectors, String name, String expected,
+			Function<WebDriver, ?> fallback, String description) {
+		this.kind = kind;
+		this.name = name;
+		this.expected = expected;
+		this.fallback = fallback;
+		this.description = description;
+
+		List<List<Object>> resolved = new ArrayList<>();
+		for (By selector : selectors) {
+			List<Object> locator = Locators.pageLocator(selector);
+			if (locator == null) {
+				resolved = null;
+				break;
+			}
+			resolved.add(locator);
+		}
+		this.locators = resolved;
+	}
+
+	/** Any of {@code selectors} matches an element (checked in order); yields that element. */
+	public static DomCondition present(By... selectors) {
+		Function<WebDriver, WebElement> fallback = driver -> {
+			for (By selector : selectors) {
+				List<WebElement> elements = driver.findElements(selector);
+				if (!elements.isEmpty()) {
+					return elements.get(0);
+				}
+			}
+			return null;
+		};
+		return new DomCondition("present", selectors, null, null, fallback, "presence of any of " + Arrays.toString(selectors));
+	}
+
+	/** The element is displayed; yields the element. */
+	public static DomCondition visible(By selector) {
+		return new DomCondition("visible", new By[] { selector }, null, null,
+				ExpectedConditions.visibilityOfElementLocated(selector), "visibility of element located by " + selector);
+	}
+
+	/** The element is absent or not displayed. */
+	public static DomCondition hidden(By selector) {
+		return new DomCondition("hidden", new By[] { selector }, null, null,
+				ExpectedConditions.invisibilityOfElementLocated(selector), "invisibility of element located by " + selector);
+	}
+
+	/** The element's visible text equals {@code text}. */
+	public static DomCondition textIs(By selector, String text) {
+		return new DomCondition("text", new By[] { selector }, null, text,
+				ExpectedConditions.textToBe(selector, text), "text ('" + text + "') of element located by " + selector);
+	}
+
+	/** The element's attribute or DOM property {@code name} equals {@code value}; yields the element. */
+	public static DomCondition attributeIs(By selector, String name, String value) {
+		Function<WebDriver, WebElement> fallback = driver -> {
+			WebElement element = driver.findElement(selector);
+			return ExpectedConditions.attributeToBe(element, name, value).apply(driver) ? element : null;
+		};
+		return new DomCondition("attribute", new By[] { selector }, name, value, fallback,
+				"attribute '" + name + "' to be '" + value + "' on element located by " + selector);
+	}
+
+	boolean runsInPage() {
+		return locators != null;
+	}
+
+	String kind() {
+		return kind;
+	}
+
+	List<List<Object>> locators() {
+		return locators;
+	}
+
+	String name() {
+		return name;
+	}
+
+	String expected() {
+		return expected;
+	}
+
+	Function<WebDriver, ?> fallback() {
+		return fallback;
+	}
+
+	@Override
+	public String toString() {
+		return description;
+	}
+}
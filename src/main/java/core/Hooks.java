@@ -16,6 +16,9 @@ import org.openqa.selenium.WebDriver;
 import utils.context.ContextManager;
 import utils.context.StoryContext;
 import utils.context.ScenarioContext;
+import utils.reports.PerceptualHash;
+import utils.reports.ScreenshotPolicy;
+import utils.reports.ScreenshotWriter;
 import common.pages.LoginPOM;
 import io.cucumber.java.Status;
 import listeners.StepLogger;
@@ -24,9 +27,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
@@ -35,16 +38,28 @@ import java.time.format.DateTimeFormatter;
 
 public class Hooks {
     private static final Logger logger = Logger.getLogger(Hooks.class.getName());
-    private static WebDriver driver;
-    private static int stepCounter = 1;
-    private static ExtentReports extentReports;
-    private static ExtentTest extentTest;
-    private static ScenarioContext scenarioContext = new ScenarioContext();
-    private static String reportDir;
+    // Cucumber creates a Hooks instance per scenario, so per-scenario state lives in instance fields.
+    // State read from static helpers (BasePage, StepLogger) is kept per thread for parallel runs.
+    private WebDriver driver;
+    private int stepCounter = 1;
+    // The run's report; a story run on a StoryBatchRunner worker gets its own, kept per thread
+    private static volatile ReportSession sharedReport;
+    private static final ThreadLocal<ReportSession> storyReport = new ThreadLocal<>();
+    private static final ThreadLocal<ExtentTest> extentTest = new ThreadLocal<>();
+    private static final ThreadLocal<ContextSlot> scenarioContexts = new ThreadLocal<>();
+    private static final AtomicInteger contextGeneration = new AtomicInteger();
     public final static String reportNameFromConfig =  getReportPropertyFromConfig("report.name", "UnnamedProject");
     public final static String reportTitleFromConfig =  getReportPropertyFromConfig("report.title", "Extent");
+    private static final long SCREENSHOT_FLUSH_TIMEOUT_MS = 60_000;
+    private static final ScreenshotPolicy SCREENSHOT_POLICY = ScreenshotPolicy.fromConfig();
+    private static final int SCREENSHOT_CHANGE_THRESHOLD = utils.config.ConfigReader.getIntProperty("screenshot.change.threshold", 0);
+    private long[] previousFrameHash;
+    // Tags each thread's ScenarioContext with the run it belongs to so flushReports can reset them all
+    private record ContextSlot(int generation, ScenarioContext context) {}
+    private record ReportSession(String dir, ExtentReports reports) {}
+
     public static ExtentTest getExtentTest() {
-        return extentTest;
+        return extentTest.get();
     }
 
     @BeforeAll
@@ -67,9 +82,13 @@ public class Hooks {
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
 
         String parentReportDir = "../test-reports"; // central location
-        reportDir = parentReportDir + "/" + reportNameFromConfig + "_" + timestamp;
+        // Stories run by StoryBatchRunner report into their own folder under the batch's report root
+        Object storyReportDir = StoryContext.isStoryMode() ? StoryContext.get("reportDir") : null;
+        String reportDir = storyReportDir != null
+            ? storyReportDir.toString()
+            : parentReportDir + "/" + reportNameFromConfig + "_" + timestamp;
 
-        Files.createDirectories(Path.of(reportDir));
+        Files.createDirectories(Path.of(reportDir, "screenshots"));
         System.out.println("📁 Reports will be stored in: " + new File(reportDir).getAbsolutePath());
         logger.info("📁 Reports directory: " + new File(reportDir).getAbsolutePath());
         String reportPath = reportDir + "/"+ reportTitleFromConfig + "Report.html";
@@ -79,8 +98,14 @@ public class Hooks {
         sparkReporter.config().setDocumentTitle("Automation Test Report");
         sparkReporter.config().setReportName("Cucumber Selenium Test Execution");
 
-        extentReports = new ExtentReports();
+        ExtentReports extentReports = new ExtentReports();
         extentReports.attachReporter(sparkReporter);
+        ReportSession session = new ReportSession(reportDir, extentReports);
+        if (storyReportDir != null) {
+            storyReport.set(session);
+        } else {
+            sharedReport = session;
+        }
         logger.info("📊 Extent Reports initialized.");
 
     }
@@ -94,10 +119,13 @@ public class Hooks {
     		e.printStackTrace();
     	}
         driver.manage().window().maximize();
-        extentTest = extentReports.createTest(scenario.getName());
+        ExtentReports extentReports = report().reports();
+        synchronized (extentReports) {
+            extentTest.set(extentReports.createTest(scenario.getName()));
+        }
 
         // 🚀 Pass the scenarioContext to ContextManager so Story/Scenario modes can decide
-        ContextManager.setScenarioContext(scenarioContext);
+        ContextManager.setScenarioContext(getScenarioContext());
 
         if (StoryContext.isStoryMode()) {
             logger.info("📘 Story mode active — ignoring @Data_ tags on features.");
@@ -111,50 +139,77 @@ public class Hooks {
     }
 
     @AfterStep
-    public void takeScreenshotAfterStep(Scenario scenario) throws IOException {
-        File srcFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-        String scenarioName = scenario.getName().replaceAll(" ", "_");
-        String screenshotDir = reportDir + "/screenshots";
-        Files.createDirectories(Path.of(screenshotDir));
-
+    public void takeScreenshotAfterStep(Scenario scenario) {
         String stepText = StepLogger.getCurrentStepText()
-            .or(() -> Optional.ofNullable((String) scenarioContext.get("lastStepText")))
+            .or(() -> Optional.ofNullable((String) getScenarioContext().get("lastStepText")))
             .orElse("Step_" + stepCounter);
         System.out.println("👣 Step used in report: " + stepText);
+        stepCounter++;
 
+        boolean failed = scenario.isFailed();
+        if (SCREENSHOT_POLICY == ScreenshotPolicy.ON_FAILURE && !failed) {
+            logStepResult(scenario, stepText, null);
+            return;
+        }
+
+        byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+
+        if (SCREENSHOT_POLICY == ScreenshotPolicy.ON_CHANGE && !failed && isSameAsPreviousFrame(screenshot)) {
+            logStepResult(scenario, stepText, null);
+            return;
+        }
+
+        String scenarioName = scenario.getName().replaceAll(" ", "_");
         String cleanStep = stepText.replaceAll("[^a-zA-Z0-9-_]", "_");
         String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss_SSS"));
         String screenshotName = scenarioName + "_" + cleanStep + "_" + timestamp + ".png";
-        String screenshotPath = screenshotDir + "/" + screenshotName;
+        String screenshotPath = report().dir() + "/screenshots/" + screenshotName;
 
-        try {
-            Files.createDirectories(Path.of("target/screenshots"));
-            Files.copy(srcFile.toPath(), Path.of(screenshotPath), StandardCopyOption.REPLACE_EXISTING);;
-            logger.info("📸 Screenshot saved: " + screenshotPath);
-
-            byte[] screenshot = Files.readAllBytes(srcFile.toPath());
-            scenario.attach(screenshot, "image/png", stepText + " Screenshot");
+        // Written in the background; flushReports waits for the queue before reading the folder
+        ScreenshotWriter.write(Path.of(screenshotPath), screenshot);
+        scenario.attach(screenshot, "image/png", stepText + " Screenshot");
 
-            Status status = scenario.getStatus();
-            if (scenario.isFailed()) {
-                extentTest.fail("❌ '" + stepText + "' failed.").addScreenCaptureFromPath("screenshots/" + screenshotName);;
-            } else if (status == Status.SKIPPED || status == Status.UNDEFINED) {
-                extentTest.skip("⚠️ '" + stepText + "' was skipped or undefined.").addScreenCaptureFromPath("screenshots/" + screenshotName);;
-            } else {
-                extentTest.pass("✅ '" + stepText + "' passed.").addScreenCaptureFromPath("screenshots/" + screenshotName);;
-            }
+        logStepResult(scenario, stepText, "screenshots/" + screenshotName);
+    }
 
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "❌ Failed to save screenshot: " + e.getMessage());
+    private void logStepResult(Scenario scenario, String stepText, String screenshotPath) {
+        Status status = scenario.getStatus();
+        ExtentTest test = extentTest.get();
+        ExtentTest node;
+        if (scenario.isFailed()) {
+            node = test.fail("❌ '" + stepText + "' failed.");
+        } else if (status == Status.SKIPPED || status == Status.UNDEFINED) {
+            node = test.skip("⚠️ '" + stepText + "' was skipped or undefined.");
+        } else {
+            node = test.pass("✅ '" + stepText + "' passed.");
         }
+        if (screenshotPath != null) {
+            node.addScreenCaptureFromPath(screenshotPath);
+        }
+    }
 
-        stepCounter++;
+    // Compares against the last frame captured in this scenario (Hooks is created per scenario)
+    private boolean isSameAsPreviousFrame(byte[] screenshot) {
+        long[] hash;
+        try {
+            hash = PerceptualHash.of(screenshot);
+        } catch (IllegalArgumentException e) {
+            logger.warning("⚠️ Could not hash screenshot, keeping it: " + e.getMessage());
+            return false;
+        }
+        boolean same = previousFrameHash != null
+            && PerceptualHash.distance(previousFrameHash, hash) <= SCREENSHOT_CHANGE_THRESHOLD;
+        if (!same) {
+            previousFrameHash = hash;
+        }
+        return same;
     }
 
 
     @After
     public void tearDown(Scenario scenario) throws IOException {
     	Status finalStatus = scenario.getStatus();
+    	ExtentTest extentTest = Hooks.extentTest.get();
 
         if (finalStatus == Status.PASSED) {
             extentTest.pass("✅ Scenario passed successfully!");
@@ -178,53 +233,87 @@ public class Hooks {
         }
 
         try {
-            core.WebDriverManager.quitDriver();
+            utils.excel.ExcelWriter.flushAll();
         } catch (Exception e) {
-            logger.log(Level.SEVERE, "❌ Failed to quit browser: " + e.getMessage(), e);
+            logger.log(Level.SEVERE, "❌ Failed to save buffered Excel results: " + e.getMessage(), e);
         }
+
+        try {
+            core.WebDriverManager.recycleDriver();
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "❌ Failed to recycle browser: " + e.getMessage(), e);
+        }
+        Hooks.extentTest.remove();
     }
 
     @AfterAll
     public static void flushReports() {
-        extentReports.flush();
-        logger.info("Extent Reports Generated: target/ExtentReport.html");
+        ReportSession session = report();
+        boolean storyScoped = storyReport.get() != null;
+        if (!ScreenshotWriter.flush(SCREENSHOT_FLUSH_TIMEOUT_MS)) {
+            logger.warning("⚠️ Report flushed with screenshots still pending.");
+        }
+        session.reports().flush();
+        logger.info("Extent Reports Generated: " + session.dir());
 
-        scenarioContext = new ScenarioContext();
+        try {
+            if (storyScoped) {
+                // Other stories may still be writing their own workbooks; only close this story's
+                Object spreadsheet = StoryContext.get("spreadsheet");
+                if (spreadsheet != null) {
+                    utils.excel.ExcelWriter.close(spreadsheet.toString());
+                }
+            } else {
+                utils.excel.ExcelWriter.closeAll();
+            }
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "❌ Failed to save buffered Excel results: " + e.getMessage(), e);
+        }
+
+        if (storyScoped) {
+            scenarioContexts.remove();
+        } else {
+            contextGeneration.incrementAndGet();
+        }
         logger.info("ScenarioContext cleared after feature execution.");
+
+        Locators.logStats(10);
         
         utils.excel.ExcelFileManager.cleanOldResults("results", 6);
         logger.info("Tidied up results file");
         
-        try {
-            core.WebDriverManager.quitDriver();
-        } catch (Exception e) {
-            logger.log(Level.SEVERE, "❌ Failed to quit browser: " + e.getMessage(), e);
+        // A story's browser is handed back by StoryBatchRunner when the story ends
+        if (!storyScoped) {
+            try {
+                core.WebDriverManager.quitAll();
+            } catch (Exception e) {
+                logger.log(Level.SEVERE, "❌ Failed to quit browser: " + e.getMessage(), e);
+            }
         }
      // Convert HTML to Word
         try {
-            String htmlPath = reportDir + "/"+ reportTitleFromConfig + "Report.html";
-            String screenshotsDir = reportDir;
-            String outputDocx = reportDir + "/" + reportTitleFromConfig.replaceAll("[^a-zA-Z0-9]", "_") + "_Report.docx";
+            String htmlPath = session.dir() + "/"+ reportTitleFromConfig + "Report.html";
+            String screenshotsDir = session.dir();
+            String outputDocx = session.dir() + "/" + reportTitleFromConfig.replaceAll("[^a-zA-Z0-9]", "_") + "_Report.docx";
 
             utils.createworddocuments.CreateWordDocuments.generateWordFromHtml(htmlPath, screenshotsDir, outputDocx);
             logger.info("📄 Word document created at: " + outputDocx);
         } catch (Exception e) {
             logger.log(Level.SEVERE, "❌ Failed to generate Word document: " + e.getMessage(), e);
         }
+        storyReport.remove();
         tidyDir();
     }
 
-    private String captureScreenshot(Scenario scenario) throws IOException {
-        File srcFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+    private String captureScreenshot(Scenario scenario) {
         String scenarioName = scenario.getName().replaceAll(" ", "_");
-        String screenshotPath = reportDir + "/screenshots/" + scenarioName + "_Failed.png";
-        Files.createDirectories(Path.of(reportDir + "/screenshots"));
+        String screenshotPath = report().dir() + "/screenshots/" + scenarioName + "_Failed.png";
 
         try {
-            Files.createDirectories(Path.of("target/screenshots"));
-            Files.copy(srcFile.toPath(), Path.of(screenshotPath));
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            ScreenshotWriter.write(Path.of(screenshotPath), screenshot);
             return screenshotPath;
-        } catch (IOException e) {
+        } catch (Exception e) {
             logger.log(Level.SEVERE, "❌ Failed to capture failure screenshot: " + e.getMessage());
             return null;
         }
@@ -241,7 +330,7 @@ public class Hooks {
 
             try {
                 String workingCopyPath = utils.excel.ExcelFileManager.createWorkingCopy(originalPath, "results");
-                scenarioContext.set("spreadsheet", workingCopyPath);
+                getScenarioContext().set("spreadsheet", workingCopyPath);
                 logger.info("🧾 Working spreadsheet stored in context: " + workingCopyPath);
             } catch (RuntimeException e) {
                 logger.severe(e.getMessage());
@@ -253,7 +342,13 @@ public class Hooks {
     }
 
     public static ScenarioContext getScenarioContext() {
-        return scenarioContext;
+        int generation = contextGeneration.get();
+        ContextSlot slot = scenarioContexts.get();
+        if (slot == null || slot.generation() != generation) {
+            slot = new ContextSlot(generation, new ScenarioContext());
+            scenarioContexts.set(slot);
+        }
+        return slot.context();
     }
     
     private static void tidyDir() {
@@ -265,7 +360,7 @@ public class Hooks {
 
     	    if (reportDirs != null) {
     	        for (File dir : reportDirs) {
-    	            if (!dir.getName().equals(reportDir)) {
+    	            if (!dir.getName().equals(getReportDirectory())) {
     	                long lastModified = dir.lastModified();
     	                long ageInMillis = System.currentTimeMillis() - lastModified;
     	                long twoDaysInMillis = 2L * 24 * 60 * 60 * 1000;
@@ -297,15 +392,8 @@ public class Hooks {
     }
     
     private static String getReportPropertyFromConfig(String key, String defaultValue) {
-        try (var configStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("config.properties")) {
-            if (configStream == null) {
-                System.err.println("⚠️ config.properties not found on classpath. Using default value for " + key);
-                return defaultValue;
-            }
-
-            var props = new java.util.Properties();
-            props.load(configStream);
-            return props.getProperty(key, defaultValue);
+        try {
+            return utils.config.Configuration.current().getString(key, defaultValue);
         } catch (Exception e) {
             System.err.println("⚠️ Failed to load config.properties: " + e.getMessage() + ". Using default value for " + key);
             return defaultValue;
@@ -313,7 +401,13 @@ public class Hooks {
     }
     
     public static String getReportDirectory() {
-        return reportDir;
+        ReportSession session = report();
+        return session != null ? session.dir() : null;
+    }
+
+    private static ReportSession report() {
+        ReportSession session = storyReport.get();
+        return session != null ? session : sharedReport;
     }
 
     private void logoutIfNeeded() {
@@ -0,0 +1,81 @@
+package core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+
+/**
+ * A locator with {@code %s} placeholders, e.g. {@code //*[@title='%s']}, split into its literal parts
+ * once so filling it in is a plain concatenation instead of a String.format parse per call.
+ *
+ * The pattern is syntax checked when compiled (placeholders filled with a sample value), and the
+ * resulting By objects for recently used arguments are reused.
+ */
+public final class LocatorTemplate {
+
+	private static final int MAX_CACHED = 256;
+
+	private final String pattern;
+	private final String[] parts;
+	private final Map<String, By> cache = new ConcurrentHashMap<>();
+
+	LocatorTemplate(String pattern) {
+		this.pattern = pattern;
+		List<String> pieces = new ArrayList<>();
+		int from = 0;
+		int at;
+		while ((at = pattern.indexOf("%s", from)) >= 0) {
+			pieces.add(pattern.substring(from, at));
+			from = at + 2;
+		}
+		pieces.add(pattern.substring(from));
+		this.parts = pieces.toArray(new String[0]);
+
+		Object[] sample = new Object[parts.length - 1];
+		java.util.Arrays.fill(sample, "x");
+		Locators.compile(format(sample));
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * The locator string with {@code args} substituted in order, same as String.format for %s.
+	 */
+	public String format(Object... args) {
+		if (args.length != parts.length - 1) {
+			throw new IllegalArgumentException("❌ Locator template '" + pattern + "' expects "
+					+ (parts.length - 1) + " argument(s), got " + args.length);
+		}
+		StringBuilder sb = new StringBuilder(pattern.length() + 16 * args.length);
+		sb.append(parts[0]);
+		for (int i = 0; i < args.length; i++) {
+			sb.append(args[i]).append(parts[i + 1]);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The By for {@code args}.
+	 */
+	public By by(Object... args) {
+		String locator = format(args);
+		By by = cache.get(locator);
+		if (by == null) {
+			by = Locators.compile(locator);
+			if (cache.size() < MAX_CACHED) {
+				cache.put(locator, by);
+			}
+		}
+		return by;
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+}
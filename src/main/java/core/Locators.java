@@ -0,0 +1,234 @@
+package core;
+
+import static core.TestLogger.LOGGER;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+
+/**
+ * Registry of compiled locators.
+ *
+ * String locators are classified (XPath when they start with "/" or "(", CSS otherwise), syntax
+ * checked and turned into a {@link By} once; later calls get the same instance while it stays among the
+ * {@value #MAX_COMPILED} most recently used. Locators with {@code %s} placeholders compile to a
+ * {@link LocatorTemplate}; build data-driven locators through one rather than by concatenation.
+ *
+ * POM classes can call {@link #validateClass(Class)} from a static initialiser so a malformed locator
+ * fails when the page class loads rather than halfway through a scenario.
+ *
+ * BasePage records how long each locator takes to resolve; {@link #logStats(int)} prints the slowest.
+ * At most {@value #MAX_TRACKED} locators are tracked individually, later ones are pooled together.
+ */
+public final class Locators {
+
+	// Bounded so locators built from test data can't grow the registry for the whole run
+	static final int MAX_COMPILED = 1024;
+	static final int MAX_TRACKED = 1024;
+	private static final String OTHER_LOCATORS = "(other locators)";
+
+	// access-ordered LRU, guarded by itself
+	private static final Map<String, By> compiled = new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, By> eldest) {
+			return size() > MAX_COMPILED;
+		}
+	};
+	private static final Map<String, LocatorTemplate> templates = new ConcurrentHashMap<>();
+	private static final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+	// XPath objects are not thread safe; one per thread is enough for syntax checks
+	private static final ThreadLocal<javax.xml.xpath.XPath> xpathCompiler =
+			ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+	private Locators() {
+	}
+
+	/**
+	 * The interned By for {@code locator}.
+	 *
+	 * @throws InvalidSelectorException when the locator is not valid XPath / CSS
+	 */
+	public static By get(String locator) {
+		By by;
+		synchronized (compiled) {
+			by = compiled.get(locator);
+		}
+		if (by == null) {
+			// compiled outside the lock; two threads racing on a new locator just compile it twice
+			by = compile(locator);
+			synchronized (compiled) {
+				By existing = compiled.putIfAbsent(locator, by);
+				if (existing != null) {
+					by = existing;
+				}
+			}
+		}
+		return by;
+	}
+
+	/**
+	 * The compiled template for a {@code %s} locator such as {@code //*[@title='%s']}.
+	 */
+	public static LocatorTemplate template(String pattern) {
+		LocatorTemplate template = templates.get(pattern);
+		if (template == null) {
+			template = templates.computeIfAbsent(pattern, LocatorTemplate::new);
+		}
+		return template;
+	}
+
+	/**
+	 * Compiles every static String field of {@code pageClass} that looks like a locator, so syntax
+	 * errors surface when the class loads. Fields with {@code %s} are compiled as templates.
+	 */
+	public static void validateClass(Class<?> pageClass) {
+		for (Field field : pageClass.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) {
+				continue;
+			}
+			try {
+				field.setAccessible(true);
+				String value = (String) field.get(null);
+				if (value == null || value.isBlank()) {
+					continue;
+				}
+				if (value.contains("%s")) {
+					template(value);
+				} else {
+					get(value);
+				}
+			} catch (IllegalAccessException e) {
+				LOGGER.debug("Skipping locator field " + field.getName() + ": " + e.getMessage());
+			} catch (InvalidSelectorException e) {
+				throw new InvalidSelectorException("❌ " + pageClass.getSimpleName() + "." + field.getName() + ": " + e.getMessage());
+			}
+		}
+	}
+
+	static By compile(String locator) {
+		String trimmed = locator.trim();
+		if (trimmed.startsWith("/") || trimmed.startsWith("(")) {
+			checkXPath(trimmed);
+			return By.xpath(trimmed);
+		}
+		checkCss(trimmed);
+		return By.cssSelector(trimmed);
+	}
+
+	private static void checkXPath(String expression) {
+		try {
+			xpathCompiler.get().compile(expression);
+		} catch (XPathExpressionException e) {
+			String reason = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+			throw new InvalidSelectorException("❌ Malformed XPath locator: " + expression + " (" + reason + ")");
+		}
+	}
+
+	// Not a full CSS parser: catches empty selectors and unbalanced brackets, parentheses and quotes
+	private static void checkCss(String selector) {
+		if (selector.isEmpty()) {
+			throw new InvalidSelectorException("❌ Empty CSS locator");
+		}
+		int brackets = 0, parens = 0;
+		char quote = 0;
+		for (int i = 0; i < selector.length(); i++) {
+			char ch = selector.charAt(i);
+			if (quote != 0) {
+				if (ch == '\\') i++;
+				else if (ch == quote) quote = 0;
+				continue;
+			}
+			switch (ch) {
+				case '\'', '"' -> quote = ch;
+				case '\\' -> i++;
+				case '[' -> brackets++;
+				case ']' -> brackets--;
+				case '(' -> parens++;
+				case ')' -> parens--;
+				default -> { }
+			}
+			if (brackets < 0 || parens < 0) {
+				break;
+			}
+		}
+		if (quote != 0 || brackets != 0 || parens != 0) {
+			throw new InvalidSelectorException("❌ Malformed CSS locator: " + selector);
+		}
+	}
+
+	/**
+	 * {@code [using, value]} for locators a page script can resolve itself (CSS and XPath, which also
+	 * covers By.id / By.name / By.className), or null for anything else.
+	 */
+	public static List<Object> pageLocator(By selector) {
+		if (selector instanceof By.Remotable remotable) {
+			By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+			if ("css selector".equals(parameters.using()) || "xpath".equals(parameters.using())) {
+				return List.of(parameters.using(), parameters.value());
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds one lookup of {@code selector} taking {@code nanos} to its latency stats.
+	 */
+	public static void recordLookup(By selector, long nanos) {
+		String key = selector.toString();
+		Stats s = stats.get(key);
+		if (s == null) {
+			s = stats.computeIfAbsent(stats.size() < MAX_TRACKED ? key : OTHER_LOCATORS, k -> new Stats());
+		}
+		s.record(nanos);
+	}
+
+	/**
+	 * Logs the {@code limit} locators with the highest total lookup time.
+	 */
+	public static void logStats(int limit) {
+		List<Map.Entry<String, Stats>> slowest = new ArrayList<>(stats.entrySet());
+		if (slowest.isEmpty()) {
+			return;
+		}
+		slowest.sort(Comparator.comparingLong((Map.Entry<String, Stats> e) -> e.getValue().totalNanos.sum()).reversed());
+		LOGGER.info("⏱️ Locator lookup latency (slowest " + Math.min(limit, slowest.size()) + " of " + slowest.size() + "):");
+		for (Map.Entry<String, Stats> entry : slowest.subList(0, Math.min(limit, slowest.size()))) {
+			Stats s = entry.getValue();
+			long count = s.count.sum();
+			LOGGER.info(String.format("   %6d lookups  avg %6d ms  max %6d ms  %s", count,
+					TimeUnit.NANOSECONDS.toMillis(s.totalNanos.sum() / Math.max(1, count)),
+					TimeUnit.NANOSECONDS.toMillis(s.maxNanos.get()), entry.getKey()));
+		}
+	}
+
+	public static void resetStats() {
+		stats.clear();
+	}
+
+	private static final class Stats {
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulateAndGet(nanos, Math::max);
+		}
+	}
+}
@@ -1,36 +1,298 @@
 package core;
 
+import static core.TestLogger.LOGGER;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
 
+import utils.config.ConfigReader;
+
+/**
+ * Per-thread WebDriver pool.
+ *
+ * Each thread leases its own driver on the first call to {@link #getDriver()} and keeps it
+ * until {@link #releaseDriver()} (returned to the pool) or {@link #quitDriver()} (session ended).
+ * The pool is bounded by {@code webdriver.pool.size}; a thread asking for a driver when every
+ * slot is leased blocks for up to {@code webdriver.pool.lease.timeout} seconds.
+ *
+ * Slot N attaches to the Nth entry of {@code webdriver.debugger.addresses} (default localhost:9222).
+ * Slots without an address launch their own Chrome instance.
+ *
+ * A thread that runs a whole story can {@link #holdDriver()} so it keeps one browser across its
+ * scenarios instead of handing it back (and competing for it again) after each one.
+ */
 public class WebDriverManager {
-	private static WebDriver driver;
-	
+
+	private static final int POOL_SIZE = Math.max(1, ConfigReader.getIntProperty("webdriver.pool.size", 1));
+	private static final long LEASE_TIMEOUT_SECONDS = ConfigReader.getIntProperty("webdriver.pool.lease.timeout", 300);
+	private static final List<String> DEBUGGER_ADDRESSES = readDebuggerAddresses();
+	private static final boolean SESSION_REUSE = ConfigReader.getBooleanProperty("webdriver.session.reuse", true);
+
+	private static final Semaphore slots = new Semaphore(POOL_SIZE, true);
+	private static final BlockingQueue<PooledDriver> idle = new LinkedBlockingQueue<>();
+	private static final BlockingQueue<Integer> freeSlotIds = new LinkedBlockingQueue<>();
+	private static final ThreadLocal<PooledDriver> leased = new ThreadLocal<>();
+	private static final ThreadLocal<Boolean> held = ThreadLocal.withInitial(() -> false);
+
+	static {
+		for (int i = 0; i < POOL_SIZE; i++) {
+			freeSlotIds.add(i);
+		}
+	}
+
+	private record PooledDriver(int slotId, WebDriver driver) {}
+
+	/**
+	 * Returns the driver leased to the current thread, leasing one from the pool if needed.
+	 */
 	public static WebDriver getDriver() {
-		if (driver == null){
-			ChromeOptions options = new ChromeOptions();
-			
-			options.setExperimentalOption("debuggerAddress", "localhost:9222");
-			
-			driver = new ChromeDriver(options);
-			
+		PooledDriver current = leased.get();
+		if (current == null) {
+			current = lease();
+			leased.set(current);
+		}
+		return current.driver();
+	}
+
+	/**
+	 * True when the current thread holds a lease.
+	 */
+	public static boolean hasDriver() {
+		return leased.get() != null;
+	}
+
+	/**
+	 * Leases a driver for the current thread and keeps it until {@link #releaseHeldDriver()}:
+	 * while held, {@link #recycleDriver()} resets the session but does not return it to the pool.
+	 */
+	public static WebDriver holdDriver() {
+		held.set(true);
+		return getDriver();
+	}
+
+	/**
+	 * Ends a {@link #holdDriver()} lease and returns the driver to the pool.
+	 */
+	public static void releaseHeldDriver() {
+		held.remove();
+		releaseDriver();
+	}
+
+	/**
+	 * Returns the current thread's driver to the pool. Broken sessions are quit instead
+	 * so the next lease starts a fresh one.
+	 */
+	public static void releaseDriver() {
+		PooledDriver current = leased.get();
+		if (current == null) {
+			return;
+		}
+		leased.remove();
+
+		if (isHealthy(current.driver())) {
+			idle.add(current);
+			slots.release();
+			LOGGER.debug("↩️ Driver slot " + current.slotId() + " returned to pool.");
+		} else {
+			LOGGER.warn("⚠️ Driver slot " + current.slotId() + " failed health check on release. Recycling.");
+			discard(current);
+		}
+	}
+
+	/**
+	 * End-of-scenario hand back. With {@code webdriver.session.reuse=true} (the default) the browser
+	 * is kept alive and reset cheaply: extra tabs closed, cookies and storage cleared, about:blank
+	 * loaded. If the reset fails the session is quit so the next lease starts a fresh browser.
+	 * With reuse disabled the session is always quit.
+	 */
+	public static void recycleDriver() {
+		PooledDriver current = leased.get();
+		if (current == null) {
+			return;
+		}
+		if (!SESSION_REUSE) {
+			quitDriver();
+			return;
+		}
+
+		try {
+			resetSession(current.driver());
+			if (!held.get()) {
+				releaseDriver();
+			}
+		} catch (Exception e) {
+			LOGGER.warn("⚠️ Session reset failed on driver slot " + current.slotId() + ", restarting: " + e.getMessage());
+			quitDriver();
 		}
-		return driver;
 	}
-	
+
+	/**
+	 * Quits the current thread's driver and frees its pool slot.
+	 */
 	public static void quitDriver() {
-		if (driver != null) {
-			driver.quit();
-			driver = null;
-			
+		PooledDriver current = leased.get();
+		if (current != null) {
+			leased.remove();
+			discard(current);
+		}
+	}
+
+	/**
+	 * Quits every idle driver in the pool. Drivers still leased by other threads are left alone
+	 * and are quit when their owners release or quit them.
+	 */
+	public static void quitAll() {
+		quitDriver();
+		PooledDriver pooled;
+		while ((pooled = idle.poll()) != null) {
+			if (slots.tryAcquire()) {
+				discard(pooled);
+			} else {
+				idle.add(pooled);
+				break;
+			}
+		}
+	}
+
+	public static int getPoolSize() {
+		return POOL_SIZE;
+	}
+
+	private static PooledDriver lease() {
+		try {
+			if (!slots.tryAcquire(LEASE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("❌ No WebDriver available in pool of " + POOL_SIZE
+						+ " after " + LEASE_TIMEOUT_SECONDS + "s");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("❌ Interrupted while waiting for a WebDriver", e);
+		}
+
+		try {
+			PooledDriver pooled;
+			while ((pooled = idle.poll()) != null) {
+				if (isHealthy(pooled.driver())) {
+					LOGGER.debug("🔁 Reusing driver slot " + pooled.slotId() + " on " + Thread.currentThread().getName());
+					return pooled;
+				}
+				LOGGER.warn("⚠️ Driver slot " + pooled.slotId() + " failed health check. Recycling.");
+				quietQuit(pooled);
+				freeSlotIds.add(pooled.slotId());
+			}
+
+			Integer slotId = freeSlotIds.poll();
+			if (slotId == null) {
+				throw new IllegalStateException("❌ WebDriver pool has a permit but no free slot");
+			}
+			try {
+				PooledDriver created = new PooledDriver(slotId, createDriver(slotId));
+				LOGGER.info("🚗 Started driver slot " + slotId + " for " + Thread.currentThread().getName());
+				return created;
+			} catch (RuntimeException e) {
+				freeSlotIds.add(slotId);
+				throw e;
+			}
+		} catch (RuntimeException e) {
+			slots.release();
+			throw e;
+		}
+	}
+
+	private static void discard(PooledDriver pooled) {
+		quietQuit(pooled);
+		freeSlotIds.add(pooled.slotId());
+		slots.release();
+	}
+
+	private static void quietQuit(PooledDriver pooled) {
+		try {
+			pooled.driver().quit();
+		} catch (Exception e) {
+			LOGGER.debug("Ignoring error while quitting driver slot " + pooled.slotId() + ": " + e.getMessage());
+		}
+	}
+
+	private static void resetSession(WebDriver driver) {
+		List<String> handles = new ArrayList<>(driver.getWindowHandles());
+		String keep = handles.get(0);
+		for (String handle : handles) {
+			if (!handle.equals(keep)) {
+				driver.switchTo().window(handle);
+				driver.close();
+			}
+		}
+		driver.switchTo().window(keep);
+
+		((JavascriptExecutor) driver).executeScript(
+			"try { window.localStorage.clear(); } catch (e) {}" +
+			"try { window.sessionStorage.clear(); } catch (e) {}");
+
+		if (driver instanceof HasCdp cdp) {
+			// Clears cookies for every domain, not only the one currently loaded
+			cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+		} else {
+			driver.manage().deleteAllCookies();
+		}
+
+		driver.get("about:blank");
+	}
+
+	private static boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return true;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private static WebDriver createDriver(int slotId) {
+		ChromeOptions options = new ChromeOptions();
+
+		if (slotId < DEBUGGER_ADDRESSES.size()) {
+			options.setExperimentalOption("debuggerAddress", DEBUGGER_ADDRESSES.get(slotId));
+		} else if (ConfigReader.getBooleanProperty("headless", false)) {
+			options.addArguments("--headless=new");
+		}
+
+		return new ChromeDriver(options);
+	}
+
+	private static List<String> readDebuggerAddresses() {
+		String configured = ConfigReader.getProperty("webdriver.debugger.addresses");
+		if (configured.isBlank()) {
+			return List.of("localhost:9222");
+		}
+		if (configured.trim().equalsIgnoreCase("none")) {
+			return List.of();
 		}
+		List<String> addresses = new ArrayList<>();
+		Arrays.stream(configured.split(","))
+			.map(String::trim)
+			.filter(s -> !s.isEmpty())
+			.forEach(addresses::add);
+		return addresses;
 	}
 }
 
-/* To start 
+/* To start
 "C:\Program Files\Google\Chrome\Application\chrome.exe" ^
 --remote-debugging-port=9222 ^
 --user-data-dir="C:\Users\%USERNAME%\AppData\Local\Google\Chrome\User Data\Profile 1"
 
-*/
\ No newline at end of file
+For a pool of N, start one Chrome per port (9222, 9223, ...) with separate user-data-dirs
+and list them in webdriver.debugger.addresses.
+*/
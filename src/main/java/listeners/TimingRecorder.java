@@ -0,0 +1,50 @@
+package listeners;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.*;
+import utils.timing.TimingStore;
+
+/**
+ * Records scenario, step and feature durations into the shared {@link TimingStore} and saves it when
+ * the run finishes. Register with {@code --plugin listeners.TimingRecorder}.
+ *
+ * Skipped, pending and undefined results are ignored so they don't drag estimates towards zero.
+ */
+public class TimingRecorder implements ConcurrentEventListener {
+
+    private final TimingStore store = TimingStore.shared();
+    private final Map<String, Duration> featureTotals = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestStepFinished.class, event -> {
+            if (event.getTestStep() instanceof PickleStepTestStep step && counts(event.getResult())) {
+                store.record(TimingStore.STEP, step.getStep().getText(), event.getResult().getDuration());
+            }
+        });
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> {
+            if (!counts(event.getResult())) {
+                return;
+            }
+            TestCase testCase = event.getTestCase();
+            String feature = TimingStore.featureId(testCase.getUri());
+            Duration duration = event.getResult().getDuration();
+            store.record(TimingStore.SCENARIO, feature + "#" + testCase.getName(), duration);
+            featureTotals.merge(feature, duration, Duration::plus);
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, event -> {
+            featureTotals.forEach((feature, total) -> store.record(TimingStore.FEATURE, feature, total));
+            featureTotals.clear();
+            store.save();
+        });
+    }
+
+    private static boolean counts(Result result) {
+        Status status = result.getStatus();
+        return status == Status.PASSED || status == Status.FAILED;
+    }
+}
@@ -8,6 +8,20 @@ import java.util.List;
 public class StoryRunner {
 
     public static void runFeatureFile(String featurePath) {
+        runFeatures(List.of(featurePath));
+    }
+
+    /**
+     * Runs all {@code featurePaths} in one Cucumber runtime, so glue is scanned, plugins are registered
+     * and {@code @BeforeAll}/{@code @AfterAll} (report setup, Word generation) fire once for the lot.
+     *
+     * @return Cucumber's exit status, 0 when every scenario passed
+     */
+    public static byte runFeatures(List<String> featurePaths) {
+        if (featurePaths == null || featurePaths.isEmpty()) {
+            System.out.println("⚠️ No features to run.");
+            return 0;
+        }
         try {
             List<String> args = new ArrayList<>();
 
@@ -19,15 +33,20 @@ public class StoryRunner {
             // Plugins
             args.add("--plugin"); args.add("pretty");
             args.add("--plugin"); args.add("listeners.StepLogger");
+            args.add("--plugin"); args.add("listeners.TimingRecorder");
 
-            // Feature file
-            args.add(featurePath);
+            // Feature files
+            args.addAll(featurePaths);
 
-            System.out.println("🎬 Running feature: " + featurePath);
-            Main.run(args.toArray(new String[0]));
+            featurePaths.forEach(featurePath -> System.out.println("🎬 Running feature: " + featurePath));
+            byte exitStatus = Main.run(args.toArray(new String[0]), Thread.currentThread().getContextClassLoader());
+            if (exitStatus != 0) {
+                System.out.println("⚠️ Cucumber finished with exit status " + exitStatus + " for " + featurePaths);
+            }
+            return exitStatus;
 
         } catch (Exception e) {
-            throw new RuntimeException("❌ Failed to run feature: " + featurePath, e);
+            throw new RuntimeException("❌ Failed to run features: " + featurePaths, e);
         }
     }
-}
\ No newline at end of file
+}
@@ -12,7 +12,9 @@ import static io.cucumber.junit.platform.engine.Constants.*;
 @SelectClasspathResource("features") // ✅ Ensure this matches "src/test/resources/features/"
 @ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = "common.stepdefinitions,core") // Step definitions location
 @ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty")
-@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty, listeners.StepLogger")
+@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = "pretty, listeners.StepLogger, listeners.TimingRecorder")
+// Parallel execution is configured in junit-platform.properties (cucumber.execution.parallel.*) rather than
+// here, so it can be switched on per run with -Dcucumber.execution.parallel.enabled=true
 public class CucumberTestRunner {
 
     static {
@@ -119,26 +119,18 @@ public class CreateFolder {
 			"        TestLogger.LOGGER.info(\"▶️ Filling form from row: \" + row)\n" +
 			"        formFiller.fill(row);"+
 			"    } \n\n}"+
-			"private ExcelFileManager getSheet(String sheetName) { \n"+
-			"        Map<String, ExcelFileManager> sheetCache;\n\n"+
-			"        if (!ContextManager.contains(\"sheetCache\")) {\n"+
-			"            sheetCache = new HashMap<>();\n"+
-			"            ContextManager.put(\"sheetCache\", sheetCache);\n"+
-			"        } else {\n"+
-			"            sheetCache = (Map<String, ExcelFileManager>) ContextManager.get(\"sheetCache\");\n"+
-			"        }\n\n"+
-			"        if (!sheetCache.containsKey(sheetName)) {"+
-			"            String spreadsheetPath = (String) ContextManager.get(\"spreadsheet\");\n"+
-			"            ExcelFileManager excel = new ExcelFileManager(spreadsheetPath, sheetName);\n"+
-			"            sheetCache.put(sheetName, excel);\n"+
-			"        }\n\n        return sheetCache.get(sheetName);\n    }\n\n"+
+			"    // Each call takes its own manager and closes it; WorkbookCache keeps the parsed sheet between calls\n"+
+			"    private ExcelFileManager openSheet(String sheetName) { \n"+
+			"        String spreadsheetPath = (String) ContextManager.get(\"spreadsheet\");\n"+
+			"        return new ExcelFileManager(spreadsheetPath, sheetName);\n    }\n\n"+
 			"    private Map<String, String> getRowByIteration(int iteration) {\n"+
-			"       ExcelFileManager excel = getSheet(\"SampleData\");\n"+
-			"        if (context.contains(\"ParentIteration\")) {\n"+
-			"            Integer parentIteration = Integer.valueOf(context.get(\"ParentIteration\").toString());\n"+
-			"            return excel.getRowByIteration(iteration, parentIteration);\n"+
-			"        } else {\n"+
-			"            return excel.getRowByIteration(iteration); // overloaded version\n"+
+			"        try (ExcelFileManager excel = openSheet(\"SampleData\")) {\n"+
+			"            if (context.contains(\"ParentIteration\")) {\n"+
+			"                Integer parentIteration = Integer.valueOf(context.get(\"ParentIteration\").toString());\n"+
+			"                return excel.getRowByIteration(iteration, parentIteration);\n"+
+			"            } else {\n"+
+			"                return excel.getRowByIteration(iteration); // overloaded version\n"+
+			"            }\n"+
 			"        }\n    }\n}\n";
 	}
 
@@ -193,7 +185,7 @@ public class CreateFolder {
             "@IncludeEngines(\"cucumber\")\n" +
             "@SelectClasspathResource(\"features\")\n" +
             "@ConfigurationParameter(key = GLUE_PROPERTY_NAME, value = \"stepdefinitions,common.stepdefinitions,core\")\n" +
-            "@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = \"pretty, listeners.StepLogger\")\n" +
+            "@ConfigurationParameter(key = PLUGIN_PROPERTY_NAME, value = \"pretty, listeners.StepLogger, listeners.TimingRecorder\")\n" +
             "public class CucumberTestRunner {\n" +
             "    static {\n" +
             "        System.out.println(\"🔍 Cucumber glue paths: stepdefinitions, common.stepdefinitions, core\");\n" +
@@ -0,0 +1,85 @@
+package tools.timing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import utils.timing.ShardPlanner;
+import utils.timing.TimingStore;
+
+/**
+ * Prints a balanced split of features (or stories) across N workers / machines from recorded
+ * durations, with the predicted makespan.
+ *
+ * <pre>
+ * ShardPlan [--shards N] [--stories] [path ...]
+ * </pre>
+ * Paths may be files or folders; folders are searched for .feature (or .json with --stories) files.
+ * Defaults: 2 shards, src/test/resources/features (or src/test/resources/stories).
+ */
+public class ShardPlan {
+
+    public static void main(String[] args) throws IOException {
+        int shardCount = 2;
+        boolean stories = false;
+        List<String> roots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--shards" -> shardCount = Integer.parseInt(args[++i]);
+                case "--stories" -> stories = true;
+                default -> roots.add(args[i]);
+            }
+        }
+        if (roots.isEmpty()) {
+            roots.add(stories ? "src/test/resources/stories" : "src/test/resources/features");
+        }
+
+        String kind = stories ? TimingStore.STORY : TimingStore.FEATURE;
+        String extension = stories ? ".json" : ".feature";
+        List<String> ids = new ArrayList<>();
+        for (String root : roots) {
+            try (Stream<Path> files = Files.walk(Paths.get(root))) {
+                files.filter(p -> p.toString().endsWith(extension))
+                     .sorted()
+                     .forEach(p -> ids.add(TimingStore.featureId(p)));
+            }
+        }
+        if (ids.isEmpty()) {
+            System.out.println("⚠️ Nothing to plan: no " + extension + " files under " + roots);
+            return;
+        }
+
+        TimingStore store = TimingStore.shared();
+        Map<String, Long> estimates = ShardPlanner.estimates(store, kind, ids);
+        List<ShardPlanner.Shard> shards = ShardPlanner.plan(estimates, shardCount);
+        long serial = estimates.values().stream().mapToLong(Long::longValue).sum();
+        long unknown = ids.stream().filter(id -> store.estimate(kind, id) < 0).count();
+
+        System.out.println("📊 Timings from " + store.getFile().toAbsolutePath().normalize());
+        for (ShardPlanner.Shard shard : shards) {
+            System.out.println("\n🗂️ Shard " + (shard.index() + 1) + " of " + shards.size() + " (~" + format(shard.expectedMillis()) + ")");
+            for (String id : shard.items()) {
+                boolean known = store.estimate(kind, id) >= 0;
+                System.out.println("   " + format(estimates.get(id)) + (known ? "   " : " ? ") + id);
+            }
+        }
+        System.out.println("\n⏱️ Predicted makespan: " + format(ShardPlanner.makespan(shards))
+                + " on " + shards.size() + " shards (serial " + format(serial) + ")");
+        if (unknown > 0) {
+            System.out.println("ℹ️ " + unknown + " of " + ids.size() + " without history (marked ?) estimated at the average");
+        }
+    }
+
+    private static String format(long millis) {
+        Duration duration = Duration.ofMillis(millis);
+        return duration.toMinutes() > 0
+                ? duration.toMinutes() + "m " + duration.toSecondsPart() + "s"
+                : duration.toSeconds() + "." + (duration.toMillisPart() / 100) + "s";
+    }
+}
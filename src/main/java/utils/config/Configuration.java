@@ -0,0 +1,245 @@
+package utils.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Immutable snapshot of the test configuration, loaded once and shared by every thread.
+ *
+ * Sources, lowest precedence first:
+ * <ol>
+ *   <li>{@code config.properties} on the classpath</li>
+ *   <li>the config file, {@code src/test/resources/config.properties} unless {@code -Dconfig.file} says otherwise</li>
+ *   <li>environment variables overriding keys defined above, named like the key in upper case with
+ *       '.' and '-' as '_' (webdriver.wait.timeout -> WEBDRIVER_WAIT_TIMEOUT)</li>
+ *   <li>system properties ({@code -Dkey=value})</li>
+ * </ol>
+ *
+ * Values are trimmed and their int / long / boolean forms are worked out when the snapshot is built,
+ * so lookups do no parsing or I/O. With {@code config.watch=true} the config file is watched and a
+ * new snapshot is swapped in atomically when it changes; code that copied a value into a static
+ * final at class load keeps the value it read.
+ */
+public final class Configuration {
+
+    private static final String RESOURCE_NAME = "config.properties";
+    private static final String DEFAULT_FILE = "src/test/resources/config.properties";
+
+    private static final AtomicReference<Configuration> current = new AtomicReference<>();
+    private static volatile Thread watcher;
+
+    private final Map<String, Value> values;
+    private final Path file;
+
+    private record Value(String raw, Long asLong, Boolean asBoolean) {
+        static Value of(String raw) {
+            String trimmed = raw.trim();
+            Long asLong;
+            try {
+                asLong = Long.parseLong(trimmed);
+            } catch (NumberFormatException e) {
+                asLong = null;
+            }
+            Boolean asBoolean = trimmed.equalsIgnoreCase("true") ? Boolean.TRUE
+                    : trimmed.equalsIgnoreCase("false") ? Boolean.FALSE : null;
+            return new Value(trimmed, asLong, asBoolean);
+        }
+    }
+
+    private Configuration(Map<String, String> merged, Path file) {
+        Map<String, Value> typed = new HashMap<>(merged.size() * 2);
+        merged.forEach((key, raw) -> typed.put(key, Value.of(raw)));
+        this.values = Collections.unmodifiableMap(typed);
+        this.file = file;
+    }
+
+    /**
+     * The current snapshot, loaded on first use.
+     */
+    public static Configuration current() {
+        Configuration config = current.get();
+        if (config == null) {
+            synchronized (Configuration.class) {
+                config = current.get();
+                if (config == null) {
+                    config = load();
+                    current.set(config);
+                    if (config.getBoolean("config.watch", false)) {
+                        startWatching(config.file);
+                    }
+                }
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Re-reads every source and swaps the new snapshot in.
+     */
+    public static Configuration reload() {
+        Configuration config = load();
+        current.set(config);
+        return config;
+    }
+
+    public String getString(String key) {
+        return getString(key, "");
+    }
+
+    public String getString(String key, String defaultValue) {
+        Value value = values.get(key);
+        return value != null ? value.raw() : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Value value = values.get(key);
+        if (value == null || value.asLong() == null
+                || value.asLong() < Integer.MIN_VALUE || value.asLong() > Integer.MAX_VALUE) {
+            return defaultValue;
+        }
+        return value.asLong().intValue();
+    }
+
+    public long getLong(String key, long defaultValue) {
+        Value value = values.get(key);
+        return value != null && value.asLong() != null ? value.asLong() : defaultValue;
+    }
+
+    /**
+     * "true" / "false" in any case; blank or missing gives {@code defaultValue}, anything else false.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Value value = values.get(key);
+        if (value == null || value.raw().isEmpty()) {
+            return defaultValue;
+        }
+        return Boolean.TRUE.equals(value.asBoolean());
+    }
+
+    /**
+     * Comma separated value as a list, blanks dropped.
+     */
+    public List<String> getList(String key) {
+        return Arrays.stream(getString(key).split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    private static Configuration load() {
+        Map<String, String> merged = new HashMap<>();
+        boolean found = false;
+
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = loader != null ? loader.getResourceAsStream(RESOURCE_NAME) : null) {
+            if (in != null) {
+                merged.putAll(read(in));
+                found = true;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to load config.properties from classpath", e);
+        }
+
+        Path file = Path.of(System.getProperty("config.file", DEFAULT_FILE));
+        if (Files.isRegularFile(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                merged.putAll(read(in));
+                found = true;
+            } catch (IOException e) {
+                throw new RuntimeException("❌ Failed to load config.properties file", e);
+            }
+        }
+        if (!found) {
+            throw new RuntimeException("❌ Failed to load config.properties file: not on classpath and no " + file);
+        }
+
+        Map<String, String> env = System.getenv();
+        for (String key : List.copyOf(merged.keySet())) {
+            String override = env.get(envName(key));
+            if (override != null) {
+                merged.put(key, override);
+            }
+        }
+
+        System.getProperties().stringPropertyNames()
+                .forEach(key -> merged.put(key, System.getProperty(key)));
+
+        return new Configuration(merged, file);
+    }
+
+    private static Map<String, String> read(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        Map<String, String> map = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> map.put(key, properties.getProperty(key)));
+        return map;
+    }
+
+    static String envName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private static void startWatching(Path file) {
+        if (watcher != null) {
+            return;
+        }
+        Path absolute = file.toAbsolutePath();
+        Path directory = absolute.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        Thread thread = new Thread(() -> watch(directory, absolute.getFileName()), "config-watcher");
+        thread.setDaemon(true);
+        watcher = thread;
+        thread.start();
+    }
+
+    private static void watch(Path directory, Path fileName) {
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            directory.register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    Thread.sleep(100); // editors often write in several steps
+                    try {
+                        reload();
+                        System.out.println("🔄 Reloaded config.properties");
+                    } catch (RuntimeException e) {
+                        System.err.println("⚠️ Keeping previous configuration, reload failed: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ClosedWatchServiceException e) {
+            System.err.println("⚠️ Stopped watching config.properties: " + e.getMessage());
+        }
+    }
+}
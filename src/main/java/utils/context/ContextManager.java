@@ -4,17 +4,18 @@ import java.util.Set;
 
 public class ContextManager {
 
-    private static ScenarioContext scenarioContext;
+    // Per thread so parallel scenarios never see each other's context
+    private static final ThreadLocal<ScenarioContext> currentContext = new ThreadLocal<>();
 
     public static void setScenarioContext(ScenarioContext context) {
-        scenarioContext = context;
+        currentContext.set(context);
     }
 
     public static void put(String key, Object value) {
         if (StoryContext.isStoryMode()) {
             StoryContext.put(key, value);
-        } else if (scenarioContext != null) {
-            scenarioContext.set(key, value);
+        } else if (currentContext.get() != null) {
+            currentContext.get().set(key, value);
         } else {
             throw new IllegalStateException("No ScenarioContext set for non-story mode");
         }
@@ -23,8 +24,8 @@ public class ContextManager {
     public static Object get(String key) {
         if (StoryContext.isStoryMode()) {
             return StoryContext.get(key);
-        } else if (scenarioContext != null) {
-            return scenarioContext.get(key);
+        } else if (currentContext.get() != null) {
+            return currentContext.get().get(key);
         } else {
             throw new IllegalStateException("No ScenarioContext set for non-story mode");
         }
@@ -33,8 +34,8 @@ public class ContextManager {
     private static boolean contains(String key) {
         if (StoryContext.isStoryMode()) {
             return StoryContext.get(key) != null;
-        } else if (scenarioContext != null) {
-            return scenarioContext.contains(key);
+        } else if (currentContext.get() != null) {
+            return currentContext.get().contains(key);
         } else {
             return false;
         }
@@ -45,14 +46,14 @@ public class ContextManager {
     }
     
     public static boolean containsKey(String key) {
-		return scenarioContext.contains(key);
+		return currentContext.get().contains(key);
     }
     
     public static Set<String> getAllKeys(){
     	if (StoryContext.isStoryMode()) {
     		return StoryContext.getAllKeys();
     	} else {
-    		return scenarioContext.getAllKeys();
+    		return currentContext.get().getAllKeys();
     	}
     }
 }
\ No newline at end of file
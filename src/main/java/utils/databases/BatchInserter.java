@@ -0,0 +1,138 @@
+package utils.databases;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Runs one parameterized statement for many rows in a single transaction, sending the rows to the
+ * database {@code batchSize} at a time with addBatch / executeBatch.
+ *
+ * Nothing is visible to other connections until {@link #commit()}; closing without committing
+ * (or any failure) rolls the whole load back.
+ *
+ * <pre>
+ * try (BatchInserter batch = DatabaseManager.batch("insert into account (id, name) values (?, ?)")) {
+ *     accounts.forEach(a -&gt; batch.add(a.id(), a.name()));
+ *     batch.commit();
+ * }
+ * </pre>
+ */
+public final class BatchInserter implements AutoCloseable {
+
+    private final ConnectionPool.PooledConnection connection;
+    private final String sql;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private long rowsAdded;
+    private long rowsAffected;
+    private int roundTrips;
+    private boolean finished;
+
+    BatchInserter(ConnectionPool.PooledConnection connection, String sql, int batchSize) throws SQLException {
+        this.connection = connection;
+        this.sql = sql;
+        this.batchSize = Math.max(1, batchSize);
+        connection.getConnection().setAutoCommit(false);
+        this.statement = connection.prepare(sql);
+    }
+
+    /**
+     * Queues one row, binding {@code params} to the statement's {@code ?} placeholders in order.
+     */
+    public BatchInserter add(Object... params) {
+        checkOpen();
+        try {
+            statement.clearParameters();
+            DatabaseManager.bind(statement, params);
+            statement.addBatch();
+            rowsAdded++;
+            if (++pending >= batchSize) {
+                flush();
+            }
+            return this;
+        } catch (SQLException e) {
+            throw fail(e);
+        }
+    }
+
+    /**
+     * Sends the queued rows and commits the transaction.
+     *
+     * @return rows affected, as reported by the driver
+     */
+    public long commit() {
+        checkOpen();
+        try {
+            if (pending > 0) {
+                flush();
+            }
+            connection.getConnection().commit();
+            finished = true;
+            return rowsAffected;
+        } catch (SQLException e) {
+            throw fail(e);
+        }
+    }
+
+    public long getRowsAdded() {
+        return rowsAdded;
+    }
+
+    /**
+     * executeBatch calls made so far.
+     */
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    /**
+     * Rolls back anything not committed and returns the connection to the pool.
+     */
+    @Override
+    public void close() {
+        try {
+            if (!finished) {
+                finished = true;
+                connection.getConnection().rollback();
+            }
+            statement.clearBatch();
+            DatabaseManager.release(connection, sql, statement);
+        } catch (SQLException e) {
+            connection.markBroken();
+        } finally {
+            connection.close();
+        }
+    }
+
+    private void flush() throws SQLException {
+        for (int count : statement.executeBatch()) {
+            if (count > 0) {
+                rowsAffected += count;
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                rowsAffected++;
+            }
+        }
+        roundTrips++;
+        pending = 0;
+    }
+
+    private void checkOpen() {
+        if (finished) {
+            throw new IllegalStateException("❌ Batch already committed or rolled back: " + sql);
+        }
+    }
+
+    private RuntimeException fail(SQLException e) {
+        finished = true;
+        try {
+            connection.getConnection().rollback();
+        } catch (SQLException rollbackFailure) {
+            e.addSuppressed(rollbackFailure);
+        }
+        DatabaseManager.checkHealth(connection);
+        SQLException cause = e.getNextException() != null ? e.getNextException() : e; // batch drivers chain the real error
+        return new RuntimeException("❌ Batch Execution Failed near row " + rowsAdded + ": " + cause.getMessage(), e);
+    }
+}
@@ -0,0 +1,263 @@
+package utils.databases;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Small bounded JDBC connection pool.
+ *
+ * At most {@code maxSize} connections are open at once; a thread asking for one when all are in use
+ * waits up to {@code borrowTimeoutMs}. Idle connections are reused most-recently-used first, checked
+ * with the validation query (or Connection.isValid when none is set) before being handed out, and
+ * closed once they have been idle for longer than {@code idleTimeoutMs}.
+ *
+ * Each pooled connection keeps an LRU cache of its prepared statements, keyed by SQL text.
+ *
+ * <pre>
+ * try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+ *     PreparedStatement statement = connection.prepare("select * from account where id = ?");
+ * }
+ * </pre>
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final long idleTimeoutMs;
+    private final String validationQuery;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final Deque<PooledConnection> idle = new ArrayDeque<>(); // guarded by this
+    private volatile boolean closed;
+
+    public ConnectionPool(String url, String user, String password, int maxSize, long borrowTimeoutMs,
+                          long idleTimeoutMs, String validationQuery, int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.validationQuery = validationQuery == null || validationQuery.isBlank() ? null : validationQuery;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.permits = new Semaphore(this.maxSize, true);
+    }
+
+    /**
+     * A validated connection for the caller's exclusive use. Close it to hand it back.
+     */
+    public PooledConnection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("❌ Connection pool is closed");
+        }
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLException("❌ No database connection available in pool of " + maxSize + " after " + borrowTimeoutMs + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("❌ Interrupted while waiting for a database connection", e);
+        }
+
+        try {
+            PooledConnection connection;
+            while ((connection = takeIdle()) != null) {
+                if (isValid(connection)) {
+                    connection.leased = true;
+                    return connection;
+                }
+                connection.closePhysical();
+            }
+            connection = new PooledConnection(DriverManager.getConnection(url, user, password));
+            connection.leased = true;
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Closes every idle connection and refuses new borrows. Borrowed connections are closed when returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            idle.forEach(PooledConnection::closePhysical);
+            idle.clear();
+        }
+    }
+
+    // Most recently used first; anything idle too long is closed on the way
+    private synchronized PooledConnection takeIdle() {
+        evictIdle();
+        return idle.pollFirst();
+    }
+
+    private synchronized void evictIdle() {
+        long now = System.nanoTime();
+        Iterator<PooledConnection> it = idle.descendingIterator(); // oldest first
+        while (it.hasNext()) {
+            PooledConnection connection = it.next();
+            if (TimeUnit.NANOSECONDS.toMillis(now - connection.lastUsed) < idleTimeoutMs) {
+                break;
+            }
+            it.remove();
+            connection.closePhysical();
+        }
+    }
+
+    private boolean isValid(PooledConnection connection) {
+        try {
+            if (connection.physical.isClosed()) {
+                return false;
+            }
+            if (validationQuery == null) {
+                return connection.physical.isValid(2);
+            }
+            try (Statement statement = connection.physical.createStatement()) {
+                statement.setQueryTimeout(2);
+                statement.execute(validationQuery);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void giveBack(PooledConnection connection) {
+        boolean reusable = !closed && !connection.broken;
+        if (reusable) {
+            try {
+                if (!connection.physical.getAutoCommit()) {
+                    connection.physical.rollback(); // never hand over someone else's open transaction
+                    connection.physical.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                reusable = false;
+            }
+        }
+        if (reusable) {
+            connection.lastUsed = System.nanoTime();
+            synchronized (this) {
+                idle.addFirst(connection);
+                evictIdle();
+            }
+        } else {
+            connection.closePhysical();
+        }
+        permits.release();
+    }
+
+    /**
+     * One physical connection plus its statement cache. Not thread safe: owned by one borrower at a time.
+     */
+    public final class PooledConnection implements AutoCloseable {
+        private final Connection physical;
+        private final Map<String, PreparedStatement> statements;
+        private long lastUsed = System.nanoTime();
+        private boolean leased;
+        private boolean broken;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > statementCacheSize) {
+                        closeQuietly(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        public Connection getConnection() {
+            return physical;
+        }
+
+        /**
+         * The cached prepared statement for {@code sql} (parameters cleared), preparing it on first use.
+         */
+        public PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement != null && !statement.isClosed()) {
+                statement.clearParameters();
+                return statement;
+            }
+            statement = physical.prepareStatement(sql);
+            if (statementCacheSize > 0) {
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        /**
+         * True when {@code statement} is the cached statement for {@code sql} and stays open for reuse.
+         */
+        public boolean isCached(String sql, PreparedStatement statement) {
+            return statements.get(sql) == statement;
+        }
+
+        /**
+         * Marks the connection as unusable after an error, so it is closed instead of pooled.
+         */
+        public void markBroken() {
+            broken = true;
+        }
+
+        /**
+         * Returns the connection to the pool.
+         */
+        @Override
+        public void close() {
+            if (!leased) {
+                return;
+            }
+            leased = false;
+            giveBack(this);
+        }
+
+        private void closePhysical() {
+            statements.values().forEach(ConnectionPool::closeQuietly);
+            statements.clear();
+            try {
+                physical.close();
+            } catch (SQLException e) {
+                // already gone
+            }
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            // ignore
+        }
+    }
+}
@@ -2,80 +2,297 @@ package utils.databases;
 
 import java.sql.*;
 import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import utils.config.ConfigReader;
-import utils.jks.JKSReader;
+import utils.config.Configuration;
+import utils.excel.ExcelFileManager;
+import utils.excel.ExcelRow;
+import utils.excel.StreamingExcelReader;
+import utils.secrets.Credentials;
+import utils.secrets.SecretCache;
 
+/**
+ * Pooled JDBC access for test setup and assertions. Safe to call from parallel scenarios.
+ *
+ * The pool is created on first use from {@code db.url} / {@code db.driver} and the "db-connection"
+ * secret, or explicitly with {@link #configure(String, String, String)} (e.g. for an embedded database).
+ * Queries are prepared once per pooled connection and take {@code ?} parameters; large results can be
+ * read row by row through {@link #stream(String, Object...)}, and test data seeded in batches with
+ * {@link #batch(String)} or straight from a sheet with {@link #bulkLoad(String, String, String)}.
+ */
 public class DatabaseManager {
-    private static Connection connection;
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+    private static volatile ConnectionPool pool;
 
     public static void connect() {
         try {
             String dbUrl = ConfigReader.getProperty("db.url");
             String dbDriver = ConfigReader.getProperty("db.driver");
 
-            // Load credentials from JKS
-            JKSReader jksReader = new JKSReader();
-            String[] credentials = jksReader.getSecret("db-connection").split(",");
-            String dbUser = credentials[0];
-            String dbPassword = credentials[1];
+            // Load credentials from JKS (cached)
+            Credentials credentials = SecretCache.credentials("db-connection");
 
-            Class.forName(dbDriver); // Load JDBC Driver
-            connection = DriverManager.getConnection(dbUrl, dbUser, dbPassword);
-            System.out.println("✅ Database Connected Successfully!");
+            if (!dbDriver.isEmpty()) {
+                Class.forName(dbDriver); // Load JDBC Driver
+            }
+            configure(dbUrl, credentials.username(), credentials.password());
         } catch (Exception e) {
             throw new RuntimeException("❌ Database Connection Failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Replaces the pool with one for {@code url}, sized from the {@code db.pool.*} settings, and checks
+     * that a connection can be opened.
+     */
+    public static synchronized void configure(String url, String user, String password) {
+        Configuration config = Configuration.current();
+        ConnectionPool newPool = new ConnectionPool(url, user, password,
+                config.getInt("db.pool.size", 4),
+                config.getLong("db.pool.borrow.timeout.ms", 30000),
+                config.getLong("db.pool.idle.timeout.ms", 300000),
+                config.getString("db.pool.validation.query"),
+                config.getInt("db.statement.cache.size", 32));
+        try {
+            newPool.borrow().close(); // opened and returned to the pool
+        } catch (SQLException e) {
+            newPool.close();
+            throw new RuntimeException("❌ Database Connection Failed: " + e.getMessage(), e);
+        }
+        ConnectionPool previous = pool;
+        pool = newPool;
+        if (previous != null) {
+            previous.close();
+        }
+        System.out.println("✅ Database Connected Successfully! (pool of " + newPool.getMaxSize() + ")");
+    }
+
     public static List<Map<String, Object>> executeQuery(String query) {
+        return executeQuery(query, new Object[0]);
+    }
+
+    /**
+     * Runs a query with {@code ?} parameters bound in order and returns every row, keyed by column label.
+     * For large results use {@link #stream(String, Object...)} instead.
+     */
+    public static List<Map<String, Object>> executeQuery(String query, Object... params) {
         List<Map<String, Object>> resultList = new ArrayList<>();
+        try (RowCursor cursor = open(query, false, params)) {
+            cursor.forEachRemaining(resultList::add);
+        }
+        return resultList;
+    }
+
+    /**
+     * Opens a forward-only cursor, reading {@code db.fetch.size} rows per round trip. The caller must
+     * close it unless it is iterated to the end.
+     */
+    public static RowCursor openCursor(String query, Object... params) {
+        return open(query, true, params);
+    }
+
+    /**
+     * The query's rows as a lazily fetched stream; use it in try-with-resources.
+     */
+    public static Stream<ResultRow> stream(String query, Object... params) {
+        return openCursor(query, params).stream();
+    }
+
+    private static RowCursor open(String query, boolean streaming, Object... params) {
+        ConnectionPool.PooledConnection connection = null;
+        PreparedStatement stmt = null;
+        ResultSet resultSet = null;
         try {
-            if (connection == null) {
-                connect();
+            connection = borrow();
+            if (streaming) {
+                // Some drivers (PostgreSQL) only honour the fetch size inside a transaction;
+                // the pool rolls it back when the connection is returned
+                connection.getConnection().setAutoCommit(false);
             }
-            Statement stmt = connection.createStatement();
-            ResultSet resultSet = stmt.executeQuery(query);
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int columnCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                Map<String, Object> row = new HashMap<>();
-                for (int i = 1; i <= columnCount; i++) {
-                    row.put(metaData.getColumnName(i), resultSet.getObject(i));
+            stmt = connection.prepare(query);
+            bind(stmt, params);
+            stmt.setFetchSize(Math.max(0, ConfigReader.getIntProperty("db.fetch.size", 500)));
+            resultSet = stmt.executeQuery();
+            return new RowCursor(connection, query, stmt, resultSet);
+        } catch (Exception e) {
+            if (connection != null) {
+                try {
+                    if (resultSet != null) {
+                        resultSet.close();
+                    }
+                    if (stmt != null) {
+                        release(connection, query, stmt);
+                    }
+                } catch (SQLException ignored) {
+                    connection.markBroken();
                 }
-                resultList.add(row);
+                checkHealth(connection);
+                connection.close();
             }
-            resultSet.close();
-            stmt.close();
-        } catch (Exception e) {
             throw new RuntimeException("❌ Query Execution Failed: " + e.getMessage(), e);
         }
-        return resultList;
     }
 
     public static int executeUpdate(String query) {
-        try {
-            if (connection == null) {
-                connect();
+        return executeUpdate(query, new Object[0]);
+    }
+
+    /**
+     * Runs an insert / update / delete with {@code ?} parameters bound in order.
+     */
+    public static int executeUpdate(String query, Object... params) {
+        try (ConnectionPool.PooledConnection connection = borrow()) {
+            try {
+                PreparedStatement stmt = connection.prepare(query);
+                try {
+                    bind(stmt, params);
+                    return stmt.executeUpdate();
+                } finally {
+                    release(connection, query, stmt);
+                }
+            } catch (SQLException e) {
+                checkHealth(connection);
+                throw e;
             }
-            Statement stmt = connection.createStatement();
-            int rowsAffected = stmt.executeUpdate(query);
-            stmt.close();
-            return rowsAffected;
         } catch (Exception e) {
             throw new RuntimeException("❌ Update Execution Failed: " + e.getMessage(), e);
         }
     }
 
-    public static void closeConnection() {
+    /**
+     * Starts a batch of {@code query} (an insert / update with {@code ?} parameters) on its own pooled
+     * connection and transaction, flushing every {@code db.batch.size} rows.
+     */
+    public static BatchInserter batch(String query) {
+        ConnectionPool.PooledConnection connection = null;
         try {
+            connection = borrow();
+            return new BatchInserter(connection, query, ConfigReader.getIntProperty("db.batch.size", 500));
+        } catch (Exception e) {
             if (connection != null) {
+                checkHealth(connection);
                 connection.close();
+            }
+            throw new RuntimeException("❌ Batch Execution Failed: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Runs {@code query} once per parameter row, in batches, committing only if every row succeeds.
+     *
+     * @return rows affected
+     */
+    public static long executeBatch(String query, Iterable<Object[]> rows) {
+        try (BatchInserter batch = batch(query)) {
+            for (Object[] row : rows) {
+                batch.add(row);
+            }
+            return batch.commit();
+        }
+    }
+
+    /**
+     * Streams a sheet into {@code table}, one column per sheet header, in a single transaction.
+     */
+    public static long bulkLoad(String filePath, String sheetName, String table) {
+        try (StreamingExcelReader reader = ExcelFileManager.streamRows(filePath, sheetName)) {
+            return bulkLoad(reader, table, reader.getHeaders());
+        }
+    }
+
+    /**
+     * Inserts {@code columns} of each row into the same-named columns of {@code table}, in a single
+     * transaction. Cell values keep their decoded types (numbers, dates, booleans).
+     */
+    public static long bulkLoad(Iterator<ExcelRow> rows, String table, List<String> columns) {
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("❌ No columns to load into " + table);
+        }
+        checkIdentifier(table);
+        columns.forEach(DatabaseManager::checkIdentifier);
+
+        String insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        long start = System.nanoTime();
+        try (BatchInserter batch = batch(insert)) {
+            Object[] values = new Object[columns.size()];
+            while (rows.hasNext()) {
+                ExcelRow row = rows.next();
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = row.getValue(columns.get(i));
+                }
+                batch.add(values);
+            }
+            long inserted = batch.commit();
+            System.out.println("✅ Loaded " + batch.getRowsAdded() + " rows into " + table + " in "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms (" + batch.getRoundTrips() + " batches)");
+            return inserted;
+        }
+    }
+
+    // Table and column names are concatenated into SQL, so only plain (optionally schema-qualified) names
+    static void checkIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw new IllegalArgumentException("❌ Not a valid SQL identifier: '" + identifier + "'");
+        }
+    }
+
+    public static void closeConnection() {
+        try {
+            ConnectionPool current;
+            synchronized (DatabaseManager.class) {
+                current = pool;
+                pool = null;
+            }
+            if (current != null) {
+                current.close();
                 System.out.println("✅ Database Connection Closed.");
             }
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to Close Database Connection: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    static ConnectionPool.PooledConnection borrow() throws SQLException {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (DatabaseManager.class) {
+                if (pool == null) {
+                    connect();
+                }
+                current = pool;
+            }
+        }
+        return current.borrow();
+    }
+
+    static void bind(PreparedStatement stmt, Object... params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            if (params[i] == null) {
+                stmt.setNull(i + 1, Types.NULL);
+            } else {
+                stmt.setObject(i + 1, params[i]);
+            }
+        }
+    }
+
+    // Cached statements stay open for the next call; uncached ones (cache size 0) are closed here
+    static void release(ConnectionPool.PooledConnection connection, String sql, PreparedStatement stmt) throws SQLException {
+        if (!connection.isCached(sql, stmt)) {
+            stmt.close();
+        }
+    }
+
+    // A failed statement may mean the connection died; drop it rather than pooling it again
+    static void checkHealth(ConnectionPool.PooledConnection connection) {
+        try {
+            if (!connection.getConnection().isValid(2)) {
+                connection.markBroken();
+            }
+        } catch (SQLException e) {
+            connection.markBroken();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package utils.databases;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Column labels of a result set, read from its metadata once and shared by every row.
+ * Lookups by label are exact first, then case-insensitive (drivers differ on label case).
+ */
+public final class ResultColumns {
+
+    private final String[] labels;
+    private final Map<String, Integer> index;
+
+    ResultColumns(ResultSetMetaData metaData) throws SQLException {
+        int count = metaData.getColumnCount();
+        this.labels = new String[count];
+        Map<String, Integer> positions = new HashMap<>(count * 4);
+        for (int i = 0; i < count; i++) {
+            labels[i] = metaData.getColumnLabel(i + 1);
+            positions.putIfAbsent(labels[i], i);
+        }
+        for (int i = 0; i < count; i++) {
+            positions.putIfAbsent(labels[i].toLowerCase(Locale.ROOT), i);
+        }
+        this.index = positions;
+    }
+
+    public int size() {
+        return labels.length;
+    }
+
+    public String label(int position) {
+        return labels[position];
+    }
+
+    public List<String> labels() {
+        return Collections.unmodifiableList(Arrays.asList(labels));
+    }
+
+    /**
+     * Zero-based position of {@code label}, or -1 when the result has no such column.
+     */
+    public int indexOf(String label) {
+        Integer position = index.get(label);
+        if (position == null) {
+            position = index.get(label.toLowerCase(Locale.ROOT));
+        }
+        return position != null ? position : -1;
+    }
+}
@@ -0,0 +1,160 @@
+package utils.databases;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * One result row: a read-only column label -> value map over the row's values array.
+ *
+ * Rows from the same query share one {@link ResultColumns}, so a row costs one Object[] rather than
+ * a hash map of its own.
+ */
+public final class ResultRow extends AbstractMap<String, Object> {
+
+    private final ResultColumns columns;
+    private final Object[] values;
+
+    ResultRow(ResultColumns columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    public ResultColumns getColumns() {
+        return columns;
+    }
+
+    /**
+     * The value in the zero-based column {@code position}.
+     */
+    public Object getValue(int position) {
+        return values[position];
+    }
+
+    public Object getValue(String column) {
+        return values[position(column)];
+    }
+
+    @Override
+    public Object get(Object column) {
+        if (!(column instanceof String label)) {
+            return null;
+        }
+        int position = columns.indexOf(label);
+        return position >= 0 ? values[position] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object column) {
+        return column instanceof String label && columns.indexOf(label) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * The value as text, or null for SQL NULL.
+     */
+    public String getString(String column) {
+        Object value = getValue(column);
+        return value != null ? value.toString() : null;
+    }
+
+    public long getLong(String column) {
+        Object value = getValue(column);
+        try {
+            if (value instanceof Number n && !(value instanceof BigDecimal)) return n.longValue();
+            if (value instanceof BigDecimal d) return d.longValueExact();
+            if (value instanceof String s) return Long.parseLong(s.trim());
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw notA("whole number", column);
+        }
+        throw notA("whole number", column);
+    }
+
+    public int getInt(String column) {
+        long value = getLong(column);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw notA("int", column);
+        }
+        return (int) value;
+    }
+
+    public BigDecimal getDecimal(String column) {
+        Object value = getValue(column);
+        try {
+            if (value instanceof BigDecimal d) return d;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return BigDecimal.valueOf(((Number) value).longValue());
+            }
+            if (value instanceof Number n) return new BigDecimal(n.toString());
+            if (value instanceof String s) return new BigDecimal(s.trim());
+        } catch (NumberFormatException e) {
+            throw notA("decimal", column);
+        }
+        throw notA("decimal", column);
+    }
+
+    public boolean getBoolean(String column) {
+        Object value = getValue(column);
+        if (value instanceof Boolean b) return b;
+        if (value instanceof Number n && (n.intValue() == 0 || n.intValue() == 1)) return n.intValue() == 1;
+        if (value instanceof String s) {
+            if (s.equalsIgnoreCase("true") || s.equalsIgnoreCase("y") || s.equals("1")) return true;
+            if (s.equalsIgnoreCase("false") || s.equalsIgnoreCase("n") || s.equals("0")) return false;
+        }
+        throw notA("boolean", column);
+    }
+
+    public boolean isNull(String column) {
+        return getValue(column) == null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= values.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int position = next++;
+                        return new SimpleImmutableEntry<>(columns.label(position), values[position]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    private int position(String column) {
+        int position = columns.indexOf(column);
+        if (position < 0) {
+            throw new IllegalArgumentException("❌ Column '" + column + "' not in result " + columns.labels());
+        }
+        return position;
+    }
+
+    private IllegalArgumentException notA(String type, String column) {
+        return new IllegalArgumentException("❌ Column '" + column + "' value '" + getValue(column) + "' is not a " + type);
+    }
+}
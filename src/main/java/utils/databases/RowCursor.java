@@ -0,0 +1,112 @@
+package utils.databases;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Forward-only cursor over a query result, fetching {@code fetchSize} rows per round trip.
+ *
+ * The cursor holds a pooled connection until it is closed. It closes itself when the last row has been
+ * read or a read fails, so a fully iterated cursor needs no cleanup; stop early and you must close
+ * it (try-with-resources, or close the {@link #stream()}).
+ *
+ * <pre>
+ * try (Stream&lt;ResultRow&gt; rows = DatabaseManager.stream("select * from audit_log where run_id = ?", runId)) {
+ *     long failures = rows.filter(row -&gt; "FAILED".equals(row.getString("status"))).count();
+ * }
+ * </pre>
+ */
+public final class RowCursor implements Iterator<ResultRow>, AutoCloseable {
+
+    private final ConnectionPool.PooledConnection connection;
+    private final String sql;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final ResultColumns columns;
+    private ResultRow next;
+    private boolean closed;
+
+    RowCursor(ConnectionPool.PooledConnection connection, String sql, PreparedStatement statement,
+              ResultSet resultSet) throws SQLException {
+        this.connection = connection;
+        this.sql = sql;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.columns = new ResultColumns(resultSet.getMetaData());
+    }
+
+    public ResultColumns getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (closed) {
+            return false;
+        }
+        try {
+            if (!resultSet.next()) {
+                close();
+                return false;
+            }
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = resultSet.getObject(i + 1);
+            }
+            next = new ResultRow(columns, values);
+            return true;
+        } catch (SQLException e) {
+            DatabaseManager.checkHealth(connection);
+            close();
+            throw new RuntimeException("❌ Query Execution Failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ResultRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ResultRow row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * The remaining rows as a sequential stream; closing the stream closes the cursor.
+     */
+    public Stream<ResultRow> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Closes the result set and hands the connection back to the pool. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        next = null;
+        try {
+            resultSet.close();
+            DatabaseManager.release(connection, sql, statement);
+        } catch (SQLException e) {
+            connection.markBroken();
+        } finally {
+            connection.close();
+        }
+    }
+}
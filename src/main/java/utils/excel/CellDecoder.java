@@ -0,0 +1,85 @@
+package utils.excel;
+
+import org.apache.poi.ss.usermodel.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Turns cells into typed values, one instance per workbook.
+ *
+ * The FormulaEvaluator is created once and reused for every cell, so POI's evaluation cache is
+ * shared across the whole sheet instead of being rebuilt per cell.
+ *
+ * Decoded types: String (trimmed), Long (whole numbers), BigDecimal (fractions), LocalDate /
+ * LocalDateTime (date-formatted numbers), Boolean, or null for blank cells.
+ */
+public class CellDecoder {
+
+    private final FormulaEvaluator evaluator;
+
+    public CellDecoder(Workbook workbook) {
+        this.evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+    }
+
+    public Object decode(Cell cell) {
+        if (cell == null) {
+            return null;
+        }
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue().trim();
+            case NUMERIC -> fromNumber(cell.getNumericCellValue(), DateUtil.isCellDateFormatted(cell));
+            case BOOLEAN -> cell.getBooleanCellValue();
+            case FORMULA -> {
+                CellValue evaluatedValue = evaluator.evaluate(cell);
+                yield switch (evaluatedValue.getCellType()) {
+                    case STRING -> evaluatedValue.getStringValue().trim();
+                    case NUMERIC -> fromNumber(evaluatedValue.getNumberValue(), DateUtil.isCellDateFormatted(cell));
+                    case BOOLEAN -> evaluatedValue.getBooleanValue();
+                    case BLANK -> null;
+                    default -> "Unsupported formula type";
+                };
+            }
+            case BLANK -> null;
+            default -> "Unsupported cell type";
+        };
+    }
+
+    /**
+     * Typed value of a numeric cell. Dates come back as LocalDate, or LocalDateTime when they carry a time.
+     */
+    public static Object fromNumber(double value, boolean dateFormatted) {
+        if (dateFormatted && DateUtil.isValidExcelDate(value)) {
+            LocalDateTime dateTime = DateUtil.getLocalDateTime(value);
+            return dateTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? dateTime.toLocalDate() : dateTime;
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return (long) value;
+        }
+        return new BigDecimal(Double.toString(value));
+    }
+
+    /**
+     * The string form used by ExcelFileManager rows.
+     *
+     * Dates stay as their Excel serial day number so existing steps (e.g. BasePage.selectDateFromCalendar)
+     * keep working; use the typed accessors on {@link ExcelRow} to get real dates.
+     */
+    public static String toText(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof LocalDate date) {
+            return String.valueOf((long) DateUtil.getExcelDate(date));
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return String.valueOf((long) DateUtil.getExcelDate(dateTime));
+        }
+        return value.toString();
+    }
+}
@@ -2,8 +2,7 @@ package utils.excel;
 
 import org.apache.poi.ss.usermodel.*;
 import core.TestLogger;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import core.TestLogger;
+import utils.config.ConfigReader;
 
 import java.io.*;
 import java.nio.file.Files;
@@ -15,97 +14,122 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 
-public class ExcelFileManager {
-    private static Workbook workbook;
-    private Sheet sheet;
-    private List<String> headers;
-    private List<Map<String, String>> allRows; // 🚀 preload ALL rows
-    private Iterator<Row> rowIterator;
+public class ExcelFileManager implements AutoCloseable {
+    private final WorkbookCache.Handle handle;
+    private Workbook workbook;
+    private final ParsedSheet parsed;
+    private final List<String> headers;
+    private final List<Map<String, String>> allRows; // 🚀 preload ALL rows (ExcelRow instances)
+    private int nextRowIndex = 0;
     private final String filePath;
     private final String sheetName;
 
+    // excel.streaming=true makes the two-argument constructor load through StreamingExcelReader
+    private static final boolean STREAMING_DEFAULT = ConfigReader.getBooleanProperty("excel.streaming", false);
+    // Extra header columns to index for findRows, e.g. excel.index.columns=Email,Status
+    private static final List<String> INDEXED_COLUMNS = Arrays.stream(ConfigReader.getProperty("excel.index.columns").split(","))
+            .map(String::trim)
+            .filter(c -> !c.isEmpty())
+            .toList();
+
 
     public ExcelFileManager(String filePath, String sheetName) {
+        this(filePath, sheetName, STREAMING_DEFAULT);
+    }
+
+    /**
+     * @param streaming true to read rows through {@link StreamingExcelReader} without building a workbook DOM.
+     *                  getAllRows / getRowByIteration behave the same either way.
+     *
+     * Parsed rows come from {@link WorkbookCache}, so opening the same unchanged file again does not
+     * re-parse it. The row maps are shared between managers and are read only.
+     */
+    public ExcelFileManager(String filePath, String sheetName, boolean streaming) {
         this.filePath = filePath;
         this.sheetName = sheetName;
+        this.handle = WorkbookCache.acquire(filePath);
 
-        try (FileInputStream fis = new FileInputStream(filePath)) {
-            this.workbook = new XSSFWorkbook(fis);
-
-            if (sheetName != null && !sheetName.isBlank()) {
-                this.sheet = workbook.getSheet(sheetName);
-                if (this.sheet == null) {
-                    throw new RuntimeException("❌ Sheet not found: " + sheetName);
-                }
+        try {
+            String sheetKey = sheetName == null || sheetName.isBlank() ? "" : sheetName;
+            if (streaming) {
+                this.parsed = handle.getParsed("ExcelFileManager:stream:" + sheetKey, this::loadStreaming);
             } else {
-                this.sheet = workbook.getSheetAt(0);
-            }
-
-            // Read headers
-            Row headerRow = sheet.getRow(0);
-            headers = new ArrayList<>();
-            for (Cell cell : headerRow) {
-                headers.add(cell.getStringCellValue().trim());
+                this.workbook = handle.getWorkbook();
+                this.parsed = handle.getParsed("ExcelFileManager:dom:" + sheetKey, this::loadWorkbook);
             }
+        } catch (RuntimeException e) {
+            handle.close();
+            throw e;
+        }
+        this.headers = parsed.headers;
+        this.allRows = Collections.unmodifiableList(parsed.rows);
+    }
 
-            // Read all rows immediately
-            allRows = new ArrayList<>();
-            for (int r = 1; r <= sheet.getLastRowNum(); r++) {
-                Row row = sheet.getRow(r);
-                if (row == null) continue;
-                Map<String, String> dataRow = new HashMap<>();
-                for (int c = 0; c < headers.size(); c++) {
-                    Cell cell = row.getCell(c, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-                    dataRow.put(headers.get(c), getCellValueAsString(cell));
-                }
-                allRows.add(dataRow);
-            }
+    /**
+     * Iterates a sheet one row at a time with constant memory. Close the reader when done.
+     */
+    public static StreamingExcelReader streamRows(String filePath, String sheetName) {
+        return StreamingExcelReader.open(filePath, sheetName);
+    }
 
-        } catch (IOException e) {
-            throw new RuntimeException("❌ Failed to load Excel file: " + filePath, e);
+    private ParsedSheet loadStreaming() {
+        try (StreamingExcelReader reader = StreamingExcelReader.open(filePath, sheetName)) {
+            List<ExcelRow> rows = new ArrayList<>();
+            reader.forEachRemaining(rows::add);
+            return new ParsedSheet(reader.getHeaders(), rows);
         }
     }
 
-    public Map<String, String> getNextRow() {
-        if (!rowIterator.hasNext()) {
-            return Collections.emptyMap(); // or throw exception if preferred
+    private ParsedSheet loadWorkbook() {
+        Sheet sheet;
+        if (sheetName != null && !sheetName.isBlank()) {
+            sheet = workbook.getSheet(sheetName);
+            if (sheet == null) {
+                throw new RuntimeException("❌ Sheet not found: " + sheetName);
+            }
+        } else {
+            sheet = workbook.getSheetAt(0);
         }
+        // One decoder (and formula evaluator) per workbook version, shared by every sheet loaded from it
+        CellDecoder decoder = handle.getParsed("CellDecoder", () -> new CellDecoder(workbook));
 
-        Row row = rowIterator.next();
-        Map<String, String> dataMap = new HashMap<>();
+        // Read headers
+        Row headerRow = sheet.getRow(0);
+        List<String> headers = new ArrayList<>();
+        for (Cell cell : headerRow) {
+            headers.add(cell.getStringCellValue().trim());
+        }
 
-        for (int i = 0; i < headers.size(); i++) {
-            Cell cell = row.getCell(i, Row.MissingCellPolicy.CREATE_NULL_AS_BLANK);
-            dataMap.put(headers.get(i), getCellValueAsString(cell));
+        // Read all rows immediately
+        List<ExcelRow> rows = new ArrayList<>();
+        for (int r = 1; r <= sheet.getLastRowNum(); r++) {
+            Row row = sheet.getRow(r);
+            if (row == null) continue;
+            Object[] values = new Object[headers.size()];
+            for (int c = 0; c < headers.size(); c++) {
+                values[c] = decoder.decode(row.getCell(c, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL));
+            }
+            rows.add(new ExcelRow(headers, values));
         }
+        return new ParsedSheet(headers, rows);
+    }
 
-        return dataMap;
+    public Map<String, String> getNextRow() {
+        if (nextRowIndex >= allRows.size()) {
+            return Collections.emptyMap(); // or throw exception if preferred
+        }
+        return allRows.get(nextRowIndex++);
     }
     
     public List<Map<String, String>> getAllRows() {
         return allRows; // ✅ always return cached rows
     }
 
-    private String getCellValueAsString(Cell cell) {
-        FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
-
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue().trim();
-            case NUMERIC -> String.valueOf((int) cell.getNumericCellValue());
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> {
-                CellValue evaluatedValue = evaluator.evaluate(cell);
-                yield switch (evaluatedValue.getCellType()) {
-                    case STRING -> evaluatedValue.getStringValue().trim();
-                    case NUMERIC -> String.valueOf((int) evaluatedValue.getNumberValue());
-                    case BOOLEAN -> String.valueOf(evaluatedValue.getBooleanValue());
-                    case BLANK -> "";
-                    default -> "Unsupported formula type";
-                };
-            }
-            case BLANK -> "";
-            default -> "Unsupported cell type";
-        };
+    /**
+     * Same rows as {@link #getAllRows()}, with typed accessors (getInt, getDecimal, getDate, ...).
+     */
+    public List<ExcelRow> getTypedRows() {
+        return parsed.rows;
     }
 
     public static String createWorkingCopy(String originalPath, String outputFolder) {
@@ -183,36 +207,102 @@ public class ExcelFileManager {
     }
     
     public Map<String, String> getRowByIteration(String id, String parentId) {
-        for (Map<String, String> row : allRows) {
-            String rowId = row.getOrDefault("ID", "").trim();
-            String rowParentId = row.getOrDefault("ParentID", "").trim();
+        ExcelRow row = getTypedRowByIteration(id, parentId);
+        return row != null ? row : Collections.emptyMap();
+    }
 
-            boolean idMatches = rowId.equals(id);
-            boolean parentMatches = (parentId == null && rowParentId.isEmpty()) || rowParentId.equals(parentId);
+    /**
+     * Typed variant of {@link #getRowByIteration(String, String)}; returns null when no row matches.
+     */
+    public ExcelRow getTypedRowByIteration(String id, String parentId) {
+        ExcelRow row = parsed.rowsByIdAndParent.get(idKey(id, parentId));
+        if (row == null) {
+            TestLogger.LOGGER.warn("❌ No matching row found for ID='" + id + "' and ParentID='" + parentId + "'");
+        }
+        return row;
+    }
 
-            if (idMatches && parentMatches) {
-                return row;
+    /**
+     * All rows whose ParentID equals {@code parentId}, in sheet order.
+     */
+    public List<Map<String, String>> getChildRows(String parentId) {
+        return parsed.rowsByParent.getOrDefault(parentId == null ? "" : parentId.trim(), Collections.emptyList());
+    }
+
+    /**
+     * Rows whose {@code column} equals {@code value}. Columns listed in excel.index.columns are answered
+     * from a prebuilt index; any other column falls back to a scan.
+     */
+    public List<Map<String, String>> findRows(String column, String value) {
+        String key = value == null ? "" : value.trim();
+        Map<String, List<Map<String, String>>> index = parsed.columnIndexes.get(column);
+        if (index != null) {
+            return index.getOrDefault(key, Collections.emptyList());
+        }
+        List<Map<String, String>> matches = new ArrayList<>();
+        for (Map<String, String> row : allRows) {
+            if (row.getOrDefault(column, "").trim().equals(key)) {
+                matches.add(row);
             }
         }
+        return matches;
+    }
 
-        TestLogger.LOGGER.warn("❌ No matching row found for ID='" + id + "' and ParentID='" + parentId + "'");
-        return Collections.emptyMap();
+    // A null parent and an empty ParentID cell are the same thing
+    private static String idKey(String id, String parentId) {
+        return id + '\u0000' + (parentId == null ? "" : parentId);
     }
 
     public Map<String, String> getRowByIteration(int id, Integer parentId) {
         return getRowByIteration(String.valueOf(id), parentId == null ? null : String.valueOf(parentId));
     }
     
+    /**
+     * Releases this manager's reference on the cached workbook.
+     */
+    @Override
     public void close() {
-        try {
-            if (workbook != null) {
-                workbook.close();
-                TestLogger.LOGGER.info("✅ Excel workbook closed successfully.");
+        handle.close();
+        TestLogger.LOGGER.info("✅ Excel workbook released.");
+    }
+
+    // Rows plus lookup indexes, built once per workbook version and shared through WorkbookCache
+    private static final class ParsedSheet {
+        private final List<String> headers;
+        private final List<ExcelRow> rows;
+        private final Map<String, ExcelRow> rowsByIdAndParent;
+        private final Map<String, List<Map<String, String>>> rowsByParent;
+        private final Map<String, Map<String, List<Map<String, String>>>> columnIndexes;
+
+        ParsedSheet(List<String> headers, List<ExcelRow> rows) {
+            this.headers = List.copyOf(headers);
+            this.rows = Collections.unmodifiableList(rows);
+
+            // Built once after load so lookups during a story run are O(1) instead of a scan per iteration
+            rowsByIdAndParent = new HashMap<>(rows.size() * 2);
+            rowsByParent = new HashMap<>();
+            for (ExcelRow row : rows) {
+                String rowId = row.getOrDefault("ID", "").trim();
+                String rowParentId = row.getOrDefault("ParentID", "").trim();
+                rowsByIdAndParent.putIfAbsent(idKey(rowId, rowParentId), row); // first match wins, as before
+                rowsByParent.computeIfAbsent(rowParentId, k -> new ArrayList<>()).add(row);
+            }
+            // Handed straight to callers and shared by every manager on this file, so read-only
+            rowsByParent.replaceAll((parentId, children) -> Collections.unmodifiableList(children));
+
+            columnIndexes = new HashMap<>();
+            for (String column : INDEXED_COLUMNS) {
+                if (!this.headers.contains(column)) {
+                    continue;
+                }
+                Map<String, List<Map<String, String>>> index = new HashMap<>();
+                for (Map<String, String> row : rows) {
+                    index.computeIfAbsent(row.getOrDefault(column, "").trim(), k -> new ArrayList<>()).add(row);
+                }
+                index.replaceAll((value, matches) -> Collections.unmodifiableList(matches));
+                columnIndexes.put(column, index);
             }
-        } catch (IOException e) {
-            TestLogger.LOGGER.error("❌ Failed to close Excel workbook.", e);
         }
     }
-    
 }
 
@@ -2,20 +2,23 @@ package utils.excel;
 
 import utils.context.StoryContext;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-
-import java.io.FileInputStream;
-import java.io.IOException;
 
 public class ExcelLoader {
 
     public static void loadStoryData(String fileName) {
         String path = "src/test/resources/testdata/" + fileName;
 
-        try (FileInputStream fis = new FileInputStream(path);
-             Workbook workbook = WorkbookFactory.create(fis)) {
+        WorkbookCache.Handle handle;
+        try {
+            handle = WorkbookCache.acquire(path);
+        } catch (RuntimeException e) {
+            System.err.println("❌ Failed to load Excel data: " + fileName);
+            e.printStackTrace();
+            return;
+        }
 
-            Sheet sheet = workbook.getSheetAt(0);
+        try (handle) {
+            Sheet sheet = handle.getWorkbook().getSheetAt(0);
 
             for (Row row : sheet) {
                 if (row.getPhysicalNumberOfCells() >= 2) {
@@ -26,10 +29,6 @@ public class ExcelLoader {
             }
 
             System.out.println("✅ Loaded story data from Excel: " + fileName);
-
-        } catch (IOException e) {
-            System.err.println("❌ Failed to load Excel data: " + fileName);
-            e.printStackTrace();
         }
     }
 }
\ No newline at end of file
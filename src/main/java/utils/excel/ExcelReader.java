@@ -1,45 +1,49 @@
 package utils.excel;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.*;
 
 public class ExcelReader {
 
     public static List<Map<String, String>> readExcel(String filePath, String sheetName) {
-        List<Map<String, String>> dataList = new ArrayList<>();
+        try (WorkbookCache.Handle handle = WorkbookCache.acquire(filePath)) {
+            List<Map<String, String>> cached = handle.getParsed("ExcelReader:" + sheetName,
+                    () -> parseSheet(handle.getWorkbook(), sheetName));
+
+            // callers get their own copies, the cached rows are shared
+            List<Map<String, String>> dataList = new ArrayList<>(cached.size());
+            for (Map<String, String> row : cached) {
+                dataList.add(new HashMap<>(row));
+            }
+            return dataList;
+        }
+    }
 
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
+    private static List<Map<String, String>> parseSheet(Workbook workbook, String sheetName) {
+        List<Map<String, String>> dataList = new ArrayList<>();
 
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) throw new RuntimeException("❌ Sheet not found: " + sheetName);
+        Sheet sheet = workbook.getSheet(sheetName);
+        if (sheet == null) throw new RuntimeException("❌ Sheet not found: " + sheetName);
 
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) throw new RuntimeException("❌ No header row in Excel file");
+        Row headerRow = sheet.getRow(0);
+        if (headerRow == null) throw new RuntimeException("❌ No header row in Excel file");
 
-            int rowCount = sheet.getPhysicalNumberOfRows();
-            int columnCount = headerRow.getLastCellNum();
+        int rowCount = sheet.getPhysicalNumberOfRows();
+        int columnCount = headerRow.getLastCellNum();
 
-            for (int i = 1; i < rowCount; i++) {
-                Row row = sheet.getRow(i);
-                if (row == null) continue;
+        for (int i = 1; i < rowCount; i++) {
+            Row row = sheet.getRow(i);
+            if (row == null) continue;
 
-                Map<String, String> rowData = new HashMap<>();
-                for (int j = 0; j < columnCount; j++) {
-                    String key = headerRow.getCell(j).getStringCellValue();
-                    Cell cell = row.getCell(j);
-                    String value = cell != null ? getCellValue(cell) : "";
-                    rowData.put(key, value);
-                }
-                dataList.add(rowData);
+            Map<String, String> rowData = new HashMap<>();
+            for (int j = 0; j < columnCount; j++) {
+                String key = headerRow.getCell(j).getStringCellValue();
+                Cell cell = row.getCell(j);
+                String value = cell != null ? getCellValue(cell) : "";
+                rowData.put(key, value);
             }
-
-        } catch (IOException e) {
-            throw new RuntimeException("❌ Failed to read Excel file: " + filePath, e);
+            dataList.add(rowData);
         }
 
         return dataList;
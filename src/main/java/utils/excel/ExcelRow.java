@@ -0,0 +1,137 @@
+package utils.excel;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * One data row: a read-only header -> text map, plus the typed cell values decoded at load time.
+ *
+ * The text view is what getAllRows / getRowByIteration always returned. The typed accessors read
+ * the decoded value directly, so numbers and dates are not re-parsed from strings in step code.
+ */
+public final class ExcelRow extends AbstractMap<String, String> {
+
+    private final Map<String, String> text;
+    private final Map<String, Object> typed;
+
+    ExcelRow(List<String> headers, Object[] values) {
+        Map<String, String> textValues = new HashMap<>(headers.size() * 2);
+        Map<String, Object> typedValues = new HashMap<>(headers.size() * 2);
+        for (int c = 0; c < headers.size(); c++) {
+            Object value = c < values.length ? values[c] : null;
+            textValues.put(headers.get(c), CellDecoder.toText(value));
+            typedValues.put(headers.get(c), value);
+        }
+        this.text = Collections.unmodifiableMap(textValues);
+        this.typed = typedValues;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return text.entrySet();
+    }
+
+    @Override
+    public String get(Object column) {
+        return text.get(column);
+    }
+
+    @Override
+    public boolean containsKey(Object column) {
+        return text.containsKey(column);
+    }
+
+    /**
+     * The decoded value: String, Long, BigDecimal, LocalDate, LocalDateTime, Boolean or null.
+     */
+    public Object getValue(String column) {
+        return typed.get(column);
+    }
+
+    public String getString(String column) {
+        return text.getOrDefault(column, "");
+    }
+
+    public int getInt(String column) {
+        long value = getLong(column);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw notA("int", column);
+        }
+        return (int) value;
+    }
+
+    public long getLong(String column) {
+        Object value = typed.get(column);
+        try {
+            if (value instanceof Long l) return l;
+            if (value instanceof BigDecimal d) return d.longValueExact();
+            if (value instanceof String s) return Long.parseLong(s.trim());
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw notA("whole number", column);
+        }
+        throw notA("whole number", column);
+    }
+
+    public BigDecimal getDecimal(String column) {
+        Object value = typed.get(column);
+        try {
+            if (value instanceof BigDecimal d) return d;
+            if (value instanceof Long l) return BigDecimal.valueOf(l);
+            if (value instanceof String s) return new BigDecimal(s.trim());
+        } catch (NumberFormatException e) {
+            throw notA("decimal", column);
+        }
+        throw notA("decimal", column);
+    }
+
+    public LocalDate getDate(String column) {
+        Object value = typed.get(column);
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toLocalDate();
+        }
+        return getDateTime(column).toLocalDate();
+    }
+
+    public LocalDateTime getDateTime(String column) {
+        Object value = typed.get(column);
+        if (value instanceof LocalDateTime dateTime) return dateTime;
+        if (value instanceof LocalDate date) return date.atStartOfDay();
+        if (value instanceof Long || value instanceof BigDecimal) {
+            return DateUtil.getLocalDateTime(((Number) value).doubleValue()); // Excel serial date
+        }
+        if (value instanceof String s && !s.isBlank()) {
+            try {
+                return s.contains("T") ? LocalDateTime.parse(s.trim()) : LocalDate.parse(s.trim()).atStartOfDay();
+            } catch (RuntimeException e) {
+                throw notA("date", column);
+            }
+        }
+        throw notA("date", column);
+    }
+
+    public boolean getBoolean(String column) {
+        Object value = typed.get(column);
+        if (value instanceof Boolean b) return b;
+        if (value instanceof Long l && (l == 0 || l == 1)) return l == 1;
+        if (value instanceof String s) {
+            switch (s.trim().toLowerCase()) {
+                case "true", "yes", "y", "1" -> { return true; }
+                case "false", "no", "n", "0" -> { return false; }
+                default -> { }
+            }
+        }
+        throw notA("boolean", column);
+    }
+
+    public boolean isBlank(String column) {
+        return typed.get(column) == null;
+    }
+
+    private IllegalArgumentException notA(String type, String column) {
+        return new IllegalArgumentException("❌ Column '" + column + "' value '" + getString(column) + "' is not a " + type);
+    }
+}
@@ -0,0 +1,169 @@
+package utils.excel;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import core.TestLogger;
+
+import java.io.*;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Buffers cell writes for one workbook and saves them in a single pass.
+ *
+ * Updates are kept in memory keyed by sheet/row/column (last write to a cell wins) and written
+ * when {@link #flush()} is called, when {@code maxPending} cells are buffered, when the oldest
+ * buffered write is older than {@code maxAgeMs}, or on {@link #close()}. The age is checked on each
+ * write and by ExcelWriter's background flusher, so a quiet session is still saved on time. Hooks
+ * flushes every open session at the end of each scenario.
+ *
+ * The file is saved to a temp file in the same folder and then renamed over the original, so a
+ * crash mid-save never leaves a truncated workbook behind.
+ *
+ * Reads of the file only see buffered values after a flush.
+ */
+public class ExcelWriteSession implements AutoCloseable {
+
+    private record CellKey(String sheetName, int rowIndex, int colIndex) {}
+
+    private final Path filePath;
+    private final int maxPending;
+    private final long maxAgeMs;
+    private final Map<CellKey, String> pending = new LinkedHashMap<>();
+    private long oldestPendingAt = 0;
+    private boolean closed;
+
+    ExcelWriteSession(Path filePath, int maxPending, long maxAgeMs) {
+        this.filePath = filePath;
+        this.maxPending = maxPending;
+        this.maxAgeMs = maxAgeMs;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    public synchronized void set(String sheetName, int rowIndex, int colIndex, String value) {
+        if (!offer(sheetName, rowIndex, colIndex, value)) {
+            throw new IllegalStateException("❌ Excel write session already closed: " + filePath);
+        }
+    }
+
+    /**
+     * Buffers the cell unless the session has been closed.
+     *
+     * @return false if the session was already closed and nothing was buffered
+     */
+    synchronized boolean offer(String sheetName, int rowIndex, int colIndex, String value) {
+        if (closed) {
+            return false;
+        }
+        if (pending.isEmpty()) {
+            oldestPendingAt = System.currentTimeMillis();
+        }
+        pending.put(new CellKey(sheetName, rowIndex, colIndex), value);
+
+        boolean sizeReached = maxPending > 0 && pending.size() >= maxPending;
+        if (sizeReached || isDue()) {
+            flush();
+        }
+        return true;
+    }
+
+    /**
+     * Flushes if the oldest buffered cell is older than {@code maxAgeMs}.
+     */
+    synchronized void flushIfDue() {
+        if (isDue()) {
+            flush();
+        }
+    }
+
+    private boolean isDue() {
+        return maxAgeMs > 0 && !pending.isEmpty() && System.currentTimeMillis() - oldestPendingAt >= maxAgeMs;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Writes all buffered cells with one load and one save of the workbook.
+     */
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try (Workbook workbook = load(filePath)) {
+
+            for (Map.Entry<CellKey, String> entry : pending.entrySet()) {
+                CellKey key = entry.getKey();
+                Sheet sheet = workbook.getSheet(key.sheetName());
+                if (sheet == null) throw new RuntimeException("❌ Sheet not found: " + key.sheetName());
+
+                Row row = sheet.getRow(key.rowIndex());
+                if (row == null) row = sheet.createRow(key.rowIndex());
+
+                Cell cell = row.getCell(key.colIndex());
+                if (cell == null) cell = row.createCell(key.colIndex());
+
+                cell.setCellValue(entry.getValue());
+            }
+
+            saveAtomically(workbook, filePath);
+            TestLogger.LOGGER.debug("💾 Flushed " + pending.size() + " cell(s) to " + filePath);
+            pending.clear();
+
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to write to Excel file: " + filePath, e);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        // If the save fails the session stays open and registered with its cells, so flushAll can retry
+        flush();
+        closed = true;
+        ExcelWriter.forget(this);
+    }
+
+    /**
+     * Reads the workbook fully into memory and closes the file, so it can then be replaced by
+     * {@link #saveAtomically} (Windows will not rename over a file that still has an open handle).
+     */
+    static Workbook load(Path path) throws IOException {
+        try (FileInputStream fis = new FileInputStream(path.toFile())) {
+            return new XSSFWorkbook(fis);
+        }
+    }
+
+    static void saveAtomically(Workbook workbook, Path target) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                workbook.write(out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            WorkbookCache.invalidate(target.toString());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
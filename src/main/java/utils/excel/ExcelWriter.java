@@ -1,15 +1,43 @@
 package utils.excel;
 
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import core.TestLogger;
+import utils.config.ConfigReader;
 
 import java.io.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class ExcelWriter {
 
+    // excel.write.buffered=true makes writeValue buffer into a session instead of saving on every call
+    private static final boolean BUFFERED = ConfigReader.getBooleanProperty("excel.write.buffered", false);
+    private static final int BATCH_SIZE = ConfigReader.getIntProperty("excel.write.batch.size", 500);
+    private static final long FLUSH_INTERVAL_MS = ConfigReader.getIntProperty("excel.write.flush.interval.ms", 30000);
+
+    private static final Map<Path, ExcelWriteSession> sessions = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService flusher;
+
     public static void writeValue(String filePath, String sheetName, int rowIndex, int colIndex, String value) {
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
+        if (BUFFERED) {
+            // offer fails only if a concurrent close(path) got in first; the next openSession starts a fresh one
+            while (!openSession(filePath).offer(sheetName, rowIndex, colIndex, value)) {
+                Thread.onSpinWait();
+            }
+            return;
+        }
+        ExcelWriteSession session = sessions.get(key(filePath));
+        if (session != null && session.offer(sheetName, rowIndex, colIndex, value)) {
+            return;
+        }
+
+        try (Workbook workbook = ExcelWriteSession.load(Path.of(filePath))) {
 
             Sheet sheet = workbook.getSheet(sheetName);
             if (sheet == null) throw new RuntimeException("❌ Sheet not found: " + sheetName);
@@ -23,12 +51,111 @@ public class ExcelWriter {
             cell.setCellValue(value);
 
             // Save the changes
-            try (FileOutputStream fos = new FileOutputStream(filePath)) {
-                workbook.write(fos);
-            }
+            ExcelWriteSession.saveAtomically(workbook, Path.of(filePath));
 
         } catch (IOException e) {
             throw new RuntimeException("❌ Failed to write to Excel file: " + filePath, e);
         }
     }
+
+    /**
+     * Returns the write session for {@code filePath}, opening one if needed. While a session is open,
+     * writeValue calls for that file are buffered in it.
+     */
+    public static ExcelWriteSession openSession(String filePath) {
+        Path key = key(filePath);
+        while (true) {
+            ExcelWriteSession session = sessions.computeIfAbsent(key, p -> {
+                startFlusher();
+                return new ExcelWriteSession(p, BATCH_SIZE, FLUSH_INTERVAL_MS);
+            });
+            if (!session.isClosed()) {
+                return session;
+            }
+            // Closed by a concurrent close() that hasn't removed it from the map yet
+            sessions.remove(key, session);
+        }
+    }
+
+    // Saves sessions whose oldest buffered cell has passed excel.write.flush.interval.ms even when no
+    // further writes arrive to trigger the check
+    private static synchronized void startFlusher() {
+        if (flusher != null || FLUSH_INTERVAL_MS <= 0) {
+            return;
+        }
+        long period = Math.max(50, FLUSH_INTERVAL_MS / 4);
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "excel-write-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(ExcelWriter::flushDue, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private static void flushDue() {
+        for (ExcelWriteSession session : sessions.values()) {
+            try {
+                session.flushIfDue();
+            } catch (RuntimeException e) {
+                // Cells stay buffered; the next write, flushAll or tick retries
+                TestLogger.LOGGER.error("⚠️ Background flush failed for " + session.getFilePath(), e);
+            }
+        }
+    }
+
+    /**
+     * Saves every open session. Called from Hooks at the end of each scenario.
+     */
+    public static void flushAll() {
+        List<RuntimeException> failures = new ArrayList<>();
+        for (ExcelWriteSession session : sessions.values()) {
+            try {
+                session.flush();
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException first = failures.get(0);
+            failures.stream().skip(1).forEach(first::addSuppressed);
+            throw first;
+        }
+    }
+
+    /**
+     * Saves and closes every open session. Sessions that fail to save stay open for a later retry.
+     */
+    public static void closeAll() {
+        List<RuntimeException> failures = new ArrayList<>();
+        for (ExcelWriteSession session : new ArrayList<>(sessions.values())) {
+            try {
+                session.close();
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException first = failures.get(0);
+            failures.stream().skip(1).forEach(first::addSuppressed);
+            throw first;
+        }
+    }
+
+    /**
+     * Saves and closes the session for {@code filePath}, if one is open.
+     */
+    public static void close(String filePath) {
+        ExcelWriteSession session = sessions.get(key(filePath));
+        if (session != null) {
+            session.close();
+        }
+    }
+
+    static void forget(ExcelWriteSession session) {
+        sessions.remove(session.getFilePath(), session);
+    }
+
+    private static Path key(String filePath) {
+        return Path.of(filePath).toAbsolutePath().normalize();
+    }
 }
@@ -0,0 +1,281 @@
+package utils.excel;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Row-at-a-time reader for large .xlsx sheets.
+ *
+ * Reads the sheet XML straight out of the package (XSSFReader + read-only shared strings) instead
+ * of building an XSSFWorkbook, so memory stays flat however many rows the sheet has. The first row
+ * is the header row; every following row comes back as an {@link ExcelRow}, decoded the same way
+ * {@link ExcelFileManager} decodes cells (date-formatted numbers are recognised from the cell style).
+ *
+ * Formulas return their cached result; a formula that was never calculated by Excel reads as "".
+ *
+ * <pre>
+ * try (StreamingExcelReader rows = StreamingExcelReader.open(path, "Data")) {
+ *     while (rows.hasNext()) {
+ *         ExcelRow row = rows.next();
+ *     }
+ * }
+ * </pre>
+ */
+public class StreamingExcelReader implements Iterator<ExcelRow>, AutoCloseable {
+
+    private final OPCPackage pkg;
+    private final InputStream sheetStream;
+    private final XMLStreamReader xml;
+    private final SharedStrings sharedStrings;
+    private final StylesTable styles;
+    private final Map<Integer, Boolean> dateStyles = new HashMap<>();
+    private final List<String> headers;
+    private ExcelRow nextRow;
+    private boolean closed;
+
+    private StreamingExcelReader(OPCPackage pkg, InputStream sheetStream, SharedStrings sharedStrings,
+                                 StylesTable styles) throws XMLStreamException {
+        this.pkg = pkg;
+        this.sheetStream = sheetStream;
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+
+        SortedMap<Integer, Object> headerCells = readRow();
+        if (headerCells == null) {
+            throw new RuntimeException("❌ No header row in Excel sheet");
+        }
+        List<String> headerList = new ArrayList<>();
+        int lastColumn = headerCells.isEmpty() ? -1 : headerCells.lastKey();
+        for (int c = 0; c <= lastColumn; c++) {
+            headerList.add(CellDecoder.toText(headerCells.get(c)).trim());
+        }
+        this.headers = Collections.unmodifiableList(headerList);
+        this.nextRow = readDataRow();
+    }
+
+    /**
+     * Opens {@code sheetName} in {@code filePath}, or the first sheet when the name is blank.
+     */
+    public static StreamingExcelReader open(String filePath, String sheetName) {
+        OPCPackage pkg = null;
+        InputStream sheetStream = null;
+        try {
+            pkg = OPCPackage.open(filePath, PackageAccess.READ);
+            XSSFReader reader = new XSSFReader(pkg);
+            SharedStrings sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (sheets.hasNext()) {
+                InputStream candidate = sheets.next();
+                if (sheetName == null || sheetName.isBlank() || sheets.getSheetName().equals(sheetName)) {
+                    sheetStream = candidate;
+                    break;
+                }
+                candidate.close();
+            }
+            if (sheetStream == null) {
+                throw new RuntimeException("❌ Sheet not found: " + sheetName);
+            }
+            return new StreamingExcelReader(pkg, sheetStream, sharedStrings, styles);
+        } catch (RuntimeException e) {
+            closeQuietly(sheetStream, pkg);
+            throw e;
+        } catch (Exception e) {
+            closeQuietly(sheetStream, pkg);
+            throw new RuntimeException("❌ Failed to stream Excel file: " + filePath, e);
+        }
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextRow != null;
+    }
+
+    @Override
+    public ExcelRow next() {
+        if (nextRow == null) {
+            throw new NoSuchElementException();
+        }
+        ExcelRow current = nextRow;
+        nextRow = readDataRow();
+        return current;
+    }
+
+    /**
+     * The remaining rows as a sequential stream. Closing the stream closes the reader.
+     */
+    public Stream<ExcelRow> stream() {
+        Spliterator<ExcelRow> spliterator =
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        nextRow = null;
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            // nothing useful to do, the underlying stream is closed next
+        }
+        closeQuietly(sheetStream, pkg);
+    }
+
+    private ExcelRow readDataRow() {
+        SortedMap<Integer, Object> cells = readRow();
+        if (cells == null) {
+            close();
+            return null;
+        }
+        Object[] values = new Object[headers.size()];
+        for (int c = 0; c < headers.size(); c++) {
+            values[c] = cells.get(c);
+        }
+        return new ExcelRow(headers, values);
+    }
+
+    /**
+     * Advances to the next &lt;row&gt; and returns its cells by zero-based column, or null at the end of the sheet.
+     */
+    private SortedMap<Integer, Object> readRow() {
+        if (closed) {
+            return null;
+        }
+        try {
+            while (xml.hasNext()) {
+                if (xml.next() == XMLStreamConstants.START_ELEMENT && "row".equals(xml.getLocalName())) {
+                    return readCells();
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("❌ Failed to parse sheet XML", e);
+        }
+    }
+
+    private SortedMap<Integer, Object> readCells() throws XMLStreamException {
+        SortedMap<Integer, Object> cells = new TreeMap<>();
+        int nextColumn = 0;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(xml.getLocalName())) {
+                return cells;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(xml.getLocalName())) {
+                String ref = xml.getAttributeValue(null, "r");
+                int column = ref != null ? columnIndex(ref) : nextColumn;
+                String style = xml.getAttributeValue(null, "s");
+                cells.put(column, readCell(xml.getAttributeValue(null, "t"), style));
+                nextColumn = column + 1;
+            }
+        }
+        return cells;
+    }
+
+    private Object readCell(String type, String style) throws XMLStreamException {
+        String value = null;
+        StringBuilder inline = null;
+        boolean formula = false;
+
+        while (xml.hasNext()) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (xml.getLocalName()) {
+                case "v" -> value = xml.getElementText();
+                case "f" -> {
+                    formula = true;
+                    xml.getElementText();
+                }
+                case "t" -> {
+                    if (inline == null) inline = new StringBuilder();
+                    inline.append(xml.getElementText());
+                }
+                default -> { }
+            }
+        }
+
+        if (inline != null) {
+            return inline.toString().trim();
+        }
+        if (value == null) {
+            return null;
+        }
+        String cellType = type == null ? "n" : type;
+        return switch (cellType) {
+            case "s" -> sharedStrings.getItemAt(Integer.parseInt(value.trim())).getString().trim();
+            case "str", "inlineStr" -> value.trim();
+            case "b" -> "1".equals(value.trim()) || "true".equalsIgnoreCase(value.trim());
+            case "n" -> value.isBlank() ? null : CellDecoder.fromNumber(Double.parseDouble(value), isDateStyle(style));
+            case "e" -> formula ? "Unsupported formula type" : "Unsupported cell type";
+            default -> value;
+        };
+    }
+
+    private boolean isDateStyle(String style) {
+        if (style == null || styles == null) {
+            return false;
+        }
+        int styleIndex = Integer.parseInt(style.trim());
+        return dateStyles.computeIfAbsent(styleIndex, i -> {
+            XSSFCellStyle cellStyle = styles.getStyleAt(i);
+            return cellStyle != null
+                    && DateUtil.isADateFormat(cellStyle.getDataFormat(), cellStyle.getDataFormatString());
+        });
+    }
+
+    // "AB12" -> 27
+    static int columnIndex(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char ch = cellRef.charAt(i);
+            if (ch < 'A' || ch > 'Z') {
+                break;
+            }
+            column = column * 26 + (ch - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    private static void closeQuietly(InputStream stream, OPCPackage pkg) {
+        try {
+            if (stream != null) stream.close();
+        } catch (IOException e) {
+            // ignore
+        }
+        if (pkg != null) {
+            pkg.revert(); // read-only package, nothing to save
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package utils.excel;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import core.TestLogger;
+import utils.config.ConfigReader;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide cache of opened workbooks and their parsed sheets.
+ *
+ * Entries are keyed by canonical path plus last-modified time and size, so a file changed on disk
+ * (e.g. by ExcelWriter) is simply a new entry and the old one ages out. The cache holds at most
+ * {@code excel.cache.size} workbooks and evicts the least recently used. A workbook is only closed
+ * once it has been evicted and every {@link Handle} on it has been closed.
+ *
+ * <pre>
+ * try (WorkbookCache.Handle handle = WorkbookCache.acquire(path)) {
+ *     Workbook workbook = handle.getWorkbook();
+ * }
+ * </pre>
+ */
+public final class WorkbookCache {
+
+    private static final int MAX_ENTRIES = Math.max(1, ConfigReader.getIntProperty("excel.cache.size", 8));
+
+    private record CacheKey(Path path, long lastModified, long size) {}
+
+    // access-ordered so iteration starts at the least recently used entry
+    private static final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // evicted workbooks still held open by unclosed handles, guarded by WorkbookCache.class
+    private static int pinned;
+    private static int pinnedWarnedAt;
+
+    private WorkbookCache() {
+    }
+
+    /**
+     * Returns a handle on the cached workbook for {@code filePath}. Close the handle when done with it.
+     */
+    public static Handle acquire(String filePath) {
+        CacheKey key = keyFor(filePath);
+        Entry entry;
+        synchronized (WorkbookCache.class) {
+            entry = entries.get(key);
+            if (entry == null) {
+                evictOtherVersions(key.path());
+                entry = new Entry(key);
+                entry.refCount++;
+                entries.put(key, entry);
+                evictOverflow();
+            } else {
+                entry.refCount++;
+            }
+        }
+        return new Handle(entry);
+    }
+
+    /**
+     * Drops every cached version of {@code filePath}. Open handles stay usable until closed.
+     */
+    public static void invalidate(String filePath) {
+        Path path = canonical(filePath);
+        synchronized (WorkbookCache.class) {
+            evictOtherVersions(path);
+        }
+    }
+
+    public static synchronized int size() {
+        return entries.size();
+    }
+
+    private static void evictOtherVersions(Path path) {
+        Iterator<Map.Entry<CacheKey, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<CacheKey, Entry> e = it.next();
+            if (e.getKey().path().equals(path)) {
+                it.remove();
+                e.getValue().markEvicted();
+            }
+        }
+    }
+
+    private static void evictOverflow() {
+        Iterator<Map.Entry<CacheKey, Entry>> it = entries.entrySet().iterator();
+        while (entries.size() > MAX_ENTRIES && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            eldest.markEvicted();
+        }
+        warnIfPinned();
+    }
+
+    // Eviction only frees a workbook once its handles are closed; an unclosed ExcelFileManager keeps it open
+    private static void warnIfPinned() {
+        int open = entries.size() + pinned;
+        if (open <= MAX_ENTRIES || pinned <= pinnedWarnedAt
+                || entries.values().stream().anyMatch(entry -> entry.refCount == 0)) {
+            return;
+        }
+        pinnedWarnedAt = pinned;
+        TestLogger.LOGGER.warn("⚠️ Workbook cache over capacity: " + open + " workbooks open (excel.cache.size="
+                + MAX_ENTRIES + ") and every one still has an open handle. Close ExcelFileManager instances when done.");
+    }
+
+    private static CacheKey keyFor(String filePath) {
+        Path path = canonical(filePath);
+        try {
+            return new CacheKey(path, Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to load Excel file: " + filePath, e);
+        }
+    }
+
+    private static Path canonical(String filePath) {
+        Path path = Path.of(filePath);
+        try {
+            return path.toRealPath();
+        } catch (IOException e) {
+            return path.toAbsolutePath().normalize();
+        }
+    }
+
+    private static final class Entry {
+        private final CacheKey key;
+        private final Map<String, Object> parsed = new ConcurrentHashMap<>();
+        private Workbook workbook;
+        private int refCount;      // guarded by WorkbookCache.class
+        private boolean evicted;   // guarded by WorkbookCache.class
+
+        Entry(CacheKey key) {
+            this.key = key;
+        }
+
+        synchronized Workbook workbook() {
+            if (workbook == null) {
+                try (FileInputStream fis = new FileInputStream(key.path().toFile())) {
+                    workbook = new XSSFWorkbook(fis);
+                    TestLogger.LOGGER.debug("📂 Parsed workbook into cache: " + key.path());
+                } catch (IOException e) {
+                    throw new RuntimeException("❌ Failed to load Excel file: " + key.path(), e);
+                }
+            }
+            return workbook;
+        }
+
+        // called with WorkbookCache.class held
+        void markEvicted() {
+            evicted = true;
+            if (refCount == 0) {
+                closeWorkbook();
+            } else {
+                pinned++;
+            }
+        }
+
+        // called with WorkbookCache.class held
+        void release() {
+            refCount--;
+            if (refCount == 0 && evicted) {
+                closeWorkbook();
+                if (--pinned == 0) {
+                    pinnedWarnedAt = 0;
+                }
+            }
+        }
+
+        private synchronized void closeWorkbook() {
+            parsed.clear();
+            if (workbook != null) {
+                try {
+                    workbook.close();
+                } catch (IOException e) {
+                    TestLogger.LOGGER.error("❌ Failed to close cached workbook: " + key.path(), e);
+                }
+                workbook = null;
+            }
+        }
+    }
+
+    /**
+     * A reference on one cached workbook version.
+     */
+    public static final class Handle implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed;
+
+        private Handle(Entry entry) {
+            this.entry = entry;
+        }
+
+        public Path getPath() {
+            return entry.key.path();
+        }
+
+        /**
+         * The workbook, parsed on first use. Shared with other handles: read only, do not modify or close it.
+         */
+        public Workbook getWorkbook() {
+            return entry.workbook();
+        }
+
+        /**
+         * Returns the value cached under {@code key} for this workbook version, computing it once
+         * with {@code loader}. Used to share parsed sheets between readers of the same file.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getParsed(String key, Supplier<T> loader) {
+            Object value = entry.parsed.get(key);
+            if (value == null) {
+                synchronized (entry) {
+                    value = entry.parsed.get(key);
+                    if (value == null) {
+                        value = loader.get();
+                        entry.parsed.put(key, value);
+                    }
+                }
+            }
+            return (T) value;
+        }
+
+        @Override
+        public void close() {
+            synchronized (WorkbookCache.class) {
+                if (!closed) {
+                    closed = true;
+                    entry.release();
+                }
+            }
+        }
+    }
+}
@@ -1,17 +1,155 @@
 package utils.form;
 
 import core.BasePage;
+import core.DomCondition;
+import core.Locators;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import utils.config.ConfigReader;
 import utils.form.FieldConfig;
 
 public class DynamicFormFiller extends BasePage {
     private final LinkedHashMap<String, FieldConfig> fieldMap;
+    private final boolean batchMode;
+    private final List<String> executionPlan;
+    private final List<FieldTiming> timings = new ArrayList<>();
+
+    /**
+     * Where the time for one field went during the last {@link #fill(Map)}.
+     *
+     * @param waitMillis time spent waiting for the field to appear after its dependencies
+     * @param fillMillis time spent setting it (a batch's time is split evenly between its fields)
+     */
+    public record FieldTiming(String field, FormFieldType type, long waitMillis, long fillMillis, boolean batched) {
+        public long totalMillis() {
+            return waitMillis + fillMillis;
+        }
+    }
+
+    // form.fill.batch=true sets runs of plain text/checkbox fields with one script instead of field by field
+    private static final boolean BATCH_DEFAULT = ConfigReader.getBooleanProperty("form.fill.batch", false);
+
+    // Sets every field in arguments[0] through the native value setter (so framework-bound inputs see it)
+    // and fires input/change; native checkboxes are clicked when they should be checked and are not (like
+    // setCheckboxCheckedState, a box is never unchecked). Fields that are missing, not an input/textarea or
+    // (for CHECKBOX) not an <input type=checkbox> are left alone and show up as mismatches in the read-back.
+    private static final String BATCH_SET_SCRIPT = """
+        var fields = arguments[0];
+        var find = function (locator) {
+            if (locator[0] === 'css selector') return document.querySelector(locator[1]);
+            return document.evaluate(locator[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+        };
+        for (var i = 0; i < fields.length; i++) {
+            var f = fields[i], el = find(f.locator);
+            if (!el) continue;
+            if (f.kind === 'CHECKBOX') {
+                if (el instanceof HTMLInputElement && el.type === 'checkbox' && f.checked && !el.checked) el.click();
+                continue;
+            }
+            if (!(el instanceof HTMLInputElement || el instanceof HTMLTextAreaElement)) continue;
+            var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+            var setter = Object.getOwnPropertyDescriptor(proto, 'value').set;
+            el.focus();
+            setter.call(el, f.value);
+            el.dispatchEvent(new Event('input', {bubbles: true}));
+            el.dispatchEvent(new Event('change', {bubbles: true}));
+            el.blur();
+        }
+        """;
+
+    // Current value (text fields) or checked state (native checkboxes) of every field in arguments[0], by name;
+    // null for missing elements and custom checkboxes
+    private static final String BATCH_READ_SCRIPT = """
+        var fields = arguments[0], values = {};
+        var find = function (locator) {
+            if (locator[0] === 'css selector') return document.querySelector(locator[1]);
+            return document.evaluate(locator[1], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+        };
+        for (var i = 0; i < fields.length; i++) {
+            var el = find(fields[i].locator);
+            if (!el) { values[fields[i].name] = null; continue; }
+            if (fields[i].kind === 'CHECKBOX') {
+                values[fields[i].name] = el instanceof HTMLInputElement && el.type === 'checkbox' ? String(el.checked) : null;
+                continue;
+            }
+            values[fields[i].name] = el.value;
+        }
+        return values;
+        """;
 
     public DynamicFormFiller(WebDriver driver, Map<String, FieldConfig> fieldMapping) {
+        this(driver, fieldMapping, BATCH_DEFAULT);
+    }
+
+    /**
+     * @param batchMode true to set consecutive TEXTBOX / TEXTAREA / CHECKBOX fields without before/after
+     *                  hooks in one script call, verified with one read-back call. Fields that do not read
+     *                  back as expected are redone interactively. Other field types are always interactive.
+     */
+    public DynamicFormFiller(WebDriver driver, Map<String, FieldConfig> fieldMapping, boolean batchMode) {
         super(driver);
         this.fieldMap = (fieldMapping != null) ? new LinkedHashMap<>(fieldMapping) : new LinkedHashMap<>();
+        this.batchMode = batchMode;
+        this.executionPlan = planExecution(this.fieldMap);
+    }
+
+    /**
+     * Fill order: fields nobody waits on come first in declaration order, then each dependency level in
+     * turn (fields whose dependencies are all in earlier levels), again in declaration order.
+     *
+     * @throws IllegalArgumentException for a dependency on an unknown field
+     * @throws IllegalStateException for circular dependencies
+     */
+    static List<String> planExecution(LinkedHashMap<String, FieldConfig> fields) {
+        Map<String, Integer> level = new HashMap<>();
+        for (String name : fields.keySet()) {
+            levelOf(name, fields, level, new ArrayList<>());
+        }
+        List<String> plan = new ArrayList<>(fields.keySet());
+        plan.sort(Comparator.comparingInt(level::get)); // stable, so declaration order holds within a level
+        return List.copyOf(plan);
+    }
+
+    private static int levelOf(String name, Map<String, FieldConfig> fields, Map<String, Integer> level, List<String> path) {
+        Integer known = level.get(name);
+        if (known != null) {
+            return known;
+        }
+        if (path.contains(name)) {
+            List<String> cycle = new ArrayList<>(path.subList(path.indexOf(name), path.size()));
+            cycle.add(name);
+            throw new IllegalStateException("❌ Circular field dependency: " + String.join(" -> ", cycle));
+        }
+        path.add(name);
+        int depth = 0;
+        for (String dependency : fields.get(name).getDependsOn()) {
+            if (!fields.containsKey(dependency)) {
+                throw new IllegalArgumentException("❌ Field '" + name + "' depends on unknown field '" + dependency + "'");
+            }
+            depth = Math.max(depth, levelOf(dependency, fields, level, path) + 1);
+        }
+        path.remove(path.size() - 1);
+        level.put(name, depth);
+        return depth;
+    }
+
+    public List<String> getExecutionPlan() {
+        return executionPlan;
+    }
+
+    /**
+     * Per-field timings from the last fill.
+     */
+    public List<FieldTiming> getTimings() {
+        return List.copyOf(timings);
     }
 
     public void fill(Map<String, String> data) {
@@ -20,9 +158,10 @@ public class DynamicFormFiller extends BasePage {
             return;
         }
 
-        for (Map.Entry<String, FieldConfig> entry : fieldMap.entrySet()) {
-            String fieldName = entry.getKey();
-            FieldConfig config = entry.getValue();
+        timings.clear();
+        List<BatchField> batch = new ArrayList<>();
+        for (String fieldName : executionPlan) {
+            FieldConfig config = fieldMap.get(fieldName);
             String value = data.get(fieldName);
 
             if (value == null || value.equalsIgnoreCase("NULL")) {
@@ -30,41 +169,191 @@ public class DynamicFormFiller extends BasePage {
                 continue;
             }
 
-            String locator = config.getFieldId();
-            Runnable before = config.getBeforeFill();
-            Runnable after = config.getAfterFill();
-
-            try {
-                if (before != null) before.run();
-
-                switch (config.getType()) {
-                    case TEXTBOX:
-                    case TEXTAREA:
-                        enterTextInField(locator, value);
-                        break;
-                    case TYPEANDSELECT:
-                    	this.typeAndSelectOption(locator, value);
-                    	break;
-                    case DATEPICKER:
-                        selectDateFromCalendar(locator, value);
-                        break;
-                    case DROPDOWN:
-                        selectDropdownOptionByText(locator, value);
-                        break;
-                    case CHECKBOX:
-                        setCheckboxCheckedState(locator, Boolean.parseBoolean(value));
-                        break;
-                    case RADIO:
-                    	selectRadioButton(locator);
-                        break;
-                    default:
-                        System.out.println("⚠️ Unknown field type for: " + fieldName);
+            long waitMillis = 0;
+            if (!config.getDependsOn().isEmpty()) {
+                // The fields it depends on must really be on the page before we look for this one
+                flushBatch(batch);
+                waitMillis = waitForDependentField(fieldName, config);
+                if (waitMillis < 0) {
+                    continue;
+                }
+            }
+
+            BatchField batchField = batchMode ? toBatchField(fieldName, config, value, waitMillis) : null;
+            if (batchField != null) {
+                batch.add(batchField);
+                continue;
+            }
+            // Keep field order: anything queued must be on the page before an interactive field runs
+            flushBatch(batch);
+            long start = System.nanoTime();
+            fillField(fieldName, config, value);
+            record(fieldName, config, waitMillis, elapsedMillis(start), false);
+        }
+        flushBatch(batch);
+        logTimings();
+    }
+
+    // Waits for a dependent field to show up; returns the wait in ms, or -1 (field skipped) if it never did
+    private long waitForDependentField(String fieldName, FieldConfig config) {
+        long start = System.nanoTime();
+        try {
+            waitForDom(DomCondition.visible(Locators.get(config.getFieldId())));
+            return elapsedMillis(start);
+        } catch (Exception e) {
+            System.out.println("❌ Field '" + fieldName + "' did not appear after " + config.getDependsOn() + ": " + e.getMessage());
+            record(fieldName, config, elapsedMillis(start), 0, false);
+            return -1;
+        }
+    }
+
+    private void record(String fieldName, FieldConfig config, long waitMillis, long fillMillis, boolean batched) {
+        timings.add(new FieldTiming(fieldName, config.getType(), waitMillis, fillMillis, batched));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private void logTimings() {
+        if (timings.isEmpty()) {
+            return;
+        }
+        List<FieldTiming> slowest = new ArrayList<>(timings);
+        slowest.sort(Comparator.comparingLong(FieldTiming::totalMillis).reversed());
+        long total = slowest.stream().mapToLong(FieldTiming::totalMillis).sum();
+        System.out.println("⏱️ Form filled in " + total + " ms across " + timings.size() + " field(s):");
+        for (FieldTiming timing : slowest) {
+            System.out.println(String.format("   %-30s %-13s fill %6d ms  wait %6d ms%s", timing.field(), timing.type(),
+                    timing.fillMillis(), timing.waitMillis(), timing.batched() ? "  (batched)" : ""));
+        }
+    }
+
+    private void fillField(String fieldName, FieldConfig config, String value) {
+        String locator = config.getFieldId();
+        Runnable before = config.getBeforeFill();
+        Runnable after = config.getAfterFill();
+
+        try {
+            if (before != null) before.run();
+
+            switch (config.getType()) {
+                case TEXTBOX:
+                case TEXTAREA:
+                    enterTextInField(locator, value);
+                    break;
+                case TYPEANDSELECT:
+                	this.typeAndSelectOption(locator, value);
+                	break;
+                case DATEPICKER:
+                    selectDateFromCalendar(locator, value);
+                    break;
+                case DROPDOWN:
+                    selectDropdownOptionByText(locator, value);
+                    break;
+                case CHECKBOX:
+                    setCheckboxCheckedState(locator, Boolean.parseBoolean(value));
+                    break;
+                case RADIO:
+                	selectRadioButton(locator);
+                    break;
+                default:
+                    System.out.println("⚠️ Unknown field type for: " + fieldName);
+            }
+
+            if (after != null) after.run();
+        } catch (Exception e) {
+            System.out.println("❌ Error processing field '" + fieldName + "': " + e.getMessage());
+        }
+    }
+
+    private record BatchField(String name, FieldConfig config, String value, List<Object> locator, long waitMillis) {
+        Map<String, Object> toScriptArg() {
+            Map<String, Object> arg = new HashMap<>();
+            arg.put("name", name);
+            arg.put("kind", config.getType().name());
+            arg.put("locator", locator);
+            arg.put("value", value);
+            arg.put("checked", Boolean.parseBoolean(value));
+            return arg;
+        }
+
+        String expected() {
+            return config.getType() == FormFieldType.CHECKBOX ? String.valueOf(Boolean.parseBoolean(value)) : value;
+        }
+
+        // A "false" checkbox is never unchecked by either path, so any native read-back is as good as it gets
+        boolean accepts(Object actual) {
+            if (actual == null) {
+                return false;
+            }
+            if (config.getType() == FormFieldType.CHECKBOX && !Boolean.parseBoolean(value)) {
+                return true;
+            }
+            return expected().equals(actual.toString());
+        }
+    }
+
+    private BatchField toBatchField(String fieldName, FieldConfig config, String value, long waitMillis) {
+        FormFieldType type = config.getType();
+        boolean plain = type == FormFieldType.TEXTBOX || type == FormFieldType.TEXTAREA || type == FormFieldType.CHECKBOX;
+        if (!plain || config.getBeforeFill() != null || config.getAfterFill() != null) {
+            return null;
+        }
+        if (type != FormFieldType.CHECKBOX && value.isBlank()) {
+            return null; // enterTextInField leaves blank values alone; let it keep doing so
+        }
+        try {
+            List<Object> locator = Locators.pageLocator(Locators.get(config.getFieldId()));
+            return locator == null ? null : new BatchField(fieldName, config, value, locator, waitMillis);
+        } catch (RuntimeException e) {
+            return null; // let the interactive path report the bad locator
+        }
+    }
+
+    private void flushBatch(List<BatchField> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BatchField> fields = new ArrayList<>(batch);
+        batch.clear();
+
+        List<Map<String, Object>> args = new ArrayList<>();
+        for (BatchField field : fields) {
+            args.add(field.toScriptArg());
+        }
+
+        long start = System.nanoTime();
+        List<BatchField> redo = new ArrayList<>();
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            js.executeScript(BATCH_SET_SCRIPT, args);
+            Object raw = js.executeScript(BATCH_READ_SCRIPT, args);
+            Map<?, ?> actual = raw instanceof Map<?, ?> values ? values : Map.of();
+            for (BatchField field : fields) {
+                Object value = actual.get(field.name());
+                if (!field.accepts(value)) {
+                    redo.add(field);
                 }
+            }
+            System.out.println("✅ Batch filled " + (fields.size() - redo.size()) + " of " + fields.size() + " field(s)");
+        } catch (Exception e) {
+            System.out.println("⚠️ Batch fill failed, filling fields one by one: " + e.getMessage());
+            redo = fields;
+        }
 
-                if (after != null) after.run();
-            } catch (Exception e) {
-                System.out.println("❌ Error processing field '" + fieldName + "': " + e.getMessage());
+        long share = elapsedMillis(start) / fields.size();
+        for (BatchField field : fields) {
+            if (!redo.contains(field)) {
+                record(field.name(), field.config(), field.waitMillis(), share, true);
             }
         }
+
+        for (BatchField field : redo) {
+            System.out.println("ℹ️ Field '" + field.name() + "' did not take the batch value, filling interactively.");
+            long fieldStart = System.nanoTime();
+            fillField(field.name(), field.config(), field.value());
+            record(field.name(), field.config(), field.waitMillis(), share + elapsedMillis(fieldStart), false);
+        }
     }
 }
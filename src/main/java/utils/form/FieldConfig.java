@@ -1,20 +1,37 @@
 package utils.form;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class FieldConfig {
     private final String fieldId;
     private final FormFieldType type;
     private final Runnable beforeFill;
     private final Runnable afterFill;
+    private final List<String> dependsOn;
 
     public FieldConfig(String fieldId, FormFieldType type) {
         this(fieldId, type, null, null);
     }
 
     public FieldConfig(String fieldId, FormFieldType type, Runnable beforeFill, Runnable afterFill) {
+        this(fieldId, type, beforeFill, afterFill, List.of());
+    }
+
+    private FieldConfig(String fieldId, FormFieldType type, Runnable beforeFill, Runnable afterFill, List<String> dependsOn) {
         this.fieldId = fieldId;
         this.type = type;
         this.beforeFill = beforeFill;
         this.afterFill = afterFill;
+        this.dependsOn = dependsOn;
+    }
+
+    /**
+     * Returns a copy of this config that is filled only after the named fields (keys in the filler's
+     * field map), e.g. a sub-type picklist that appears once the type has been chosen.
+     */
+    public FieldConfig dependsOn(String... fieldNames) {
+        return new FieldConfig(fieldId, type, beforeFill, afterFill, List.copyOf(Arrays.asList(fieldNames)));
     }
 
     public String getFieldId() {
@@ -32,4 +49,8 @@ public class FieldConfig {
     public Runnable getAfterFill() {
         return afterFill;
     }
+
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
 }
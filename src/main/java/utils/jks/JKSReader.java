@@ -6,40 +6,79 @@ import javax.crypto.SecretKey;
 import java.security.KeyStore;
 import java.util.Base64;
 
+/**
+ * Reads secrets from credentials.jks on the classpath.
+ *
+ * The keystore is loaded and decrypted once per process, on first use, and shared by every
+ * JKSReader; constructing one is free. Prefer {@link utils.secrets.SecretCache}, which also caches
+ * the decoded values.
+ */
 public class JKSReader {
-    private KeyStore keyStore;
     private static final String JKS_RESOURCE = "credentials.jks";
-    private final String jksPassword = SecretManagerUtil.getJksPassword(); // ✅ CACHED HERE
+
+    private final KeyStore keyStore;
+    private final String jksPassword;
+
+    // Lazy holder: loaded the first time a JKSReader needs it
+    private static final class Shared {
+        static final String PASSWORD = SecretManagerUtil.getJksPassword(); // ✅ CACHED HERE
+        static final KeyStore KEY_STORE = load(PASSWORD);
+    }
 
     public JKSReader() {
+        try {
+            this.keyStore = Shared.KEY_STORE;
+            this.jksPassword = Shared.PASSWORD;
+        } catch (ExceptionInInitializerError e) {
+            throw new RuntimeException("❌ Failed to load JKS file: " + JKS_RESOURCE, e.getCause());
+        } catch (NoClassDefFoundError e) {
+            throw new RuntimeException("❌ Failed to load JKS file: " + JKS_RESOURCE + " (an earlier load failed)", e);
+        }
+    }
+
+    private static KeyStore load(String password) {
         try (var input = Thread.currentThread().getContextClassLoader().getResourceAsStream(JKS_RESOURCE)) {
             if (input == null) {
                 throw new RuntimeException("❌ credentials.jks not found in classpath.");
             }
-            keyStore = KeyStore.getInstance("JCEKS");
-            keyStore.load(input, jksPassword.toCharArray());
+            KeyStore store = KeyStore.getInstance("JCEKS");
+            store.load(input, password.toCharArray());
+            return store;
+        } catch (RuntimeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to load JKS file: " + JKS_RESOURCE, e);
         }
     }
 
-    public String getSecret(String alias) {
+    /**
+     * The secret under {@code alias} from the shared keystore, or null when the alias does not exist.
+     */
+    public static String getSharedSecret(String alias) {
+        JKSReader reader = new JKSReader();
         try {
-            KeyStore.ProtectionParameter protParam = new KeyStore.PasswordProtection(jksPassword.toCharArray());
-            KeyStore.SecretKeyEntry entry = (KeyStore.SecretKeyEntry) keyStore.getEntry(alias, protParam);
-            SecretKey secretKey = entry.getSecretKey();
-            return new String(secretKey.getEncoded());
+            if (!reader.keyStore.containsAlias(alias)) {
+                return null;
+            }
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to retrieve secret from JKS: " + alias, e);
         }
+        return reader.getSecret(alias);
+    }
+
+    public String getSecret(String alias) {
+        return new String(getSecretKey(alias).getEncoded());
     }
 
     public String getSecretBase64(String alias) {
+        return Base64.getEncoder().encodeToString(getSecretKey(alias).getEncoded());
+    }
+
+    private SecretKey getSecretKey(String alias) {
         try {
             KeyStore.ProtectionParameter protParam = new KeyStore.PasswordProtection(jksPassword.toCharArray());
             KeyStore.SecretKeyEntry entry = (KeyStore.SecretKeyEntry) keyStore.getEntry(alias, protParam);
-            SecretKey secretKey = entry.getSecretKey();
-            return Base64.getEncoder().encodeToString(secretKey.getEncoded());
+            return entry.getSecretKey();
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to retrieve secret from JKS: " + alias, e);
         }
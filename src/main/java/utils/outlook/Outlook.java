@@ -19,6 +19,8 @@ import java.util.NoSuchElementException;
 import core.WebDriverManager;
 import core.BasePage;
 import core.Hooks;
+import core.LocatorTemplate;
+import core.Locators;
 
 import java.awt.AWTException;
 import java.awt.Robot;
@@ -44,6 +46,13 @@ public class Outlook extends BasePage{
 	public String filterOption = "//*[@title='%s']";
 	public String oneDriveFile = "//*[contains(@title,'%s')]";
 	public String shareLinkButton = "//*[text()='Share link']";
+
+	private final LocatorTemplate filterOptionTemplate = Locators.template(filterOption);
+	private final LocatorTemplate oneDriveFileTemplate = Locators.template(oneDriveFile);
+
+	static {
+		Locators.validateClass(Outlook.class);
+	}
 			
 	
     public Outlook(WebDriver driver) {
@@ -103,7 +112,7 @@ public class Outlook extends BasePage{
 	    		
 	    		// wait for file explore to open need to do some clever stuff here as this is outside the browser
 	    		Thread.sleep(2000);
-	    		clickElementBySelector(String.format(oneDriveFile, attachment));
+	    		clickElementBySelector(oneDriveFileTemplate.by(attachment));
 	    		Thread.sleep(500);
 	    		clickElementBySelector(shareLinkButton);
 	    		
@@ -139,8 +148,7 @@ public class Outlook extends BasePage{
 
 	public void FilterBy(String subOption) throws Exception {
     	clickElementBySelector(filterButton);
-    	String thisFilterOption = String.format(filterOption, subOption);
-    	clickElementBySelector(thisFilterOption);
+    	clickElementBySelector(filterOptionTemplate.by(subOption));
     }
     
     
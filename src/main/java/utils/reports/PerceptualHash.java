@@ -0,0 +1,69 @@
+package utils.reports;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+/**
+ * 256-bit difference hash (dHash) of a screenshot.
+ *
+ * The image is shrunk to a 17x16 greyscale thumbnail and each bit records whether a pixel is
+ * brighter than its right-hand neighbour. Identical or near-identical pages give hashes a few
+ * bits apart, so comparing two frames is a handful of bitCount calls instead of a pixel diff.
+ */
+public final class PerceptualHash {
+
+    private static final int WIDTH = 17;
+    private static final int HEIGHT = 16;
+    public static final int BITS = (WIDTH - 1) * HEIGHT;
+
+    private PerceptualHash() {
+    }
+
+    public static long[] of(byte[] png) {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("❌ Screenshot is not a readable image", e);
+        }
+        if (source == null) {
+            throw new IllegalArgumentException("❌ Screenshot is not a readable image");
+        }
+
+        BufferedImage thumb = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = thumb.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, WIDTH, HEIGHT, null);
+        } finally {
+            g.dispose();
+        }
+
+        long[] hash = new long[BITS / 64];
+        int bit = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH - 1; x++) {
+                int left = thumb.getRaster().getSample(x, y, 0);
+                int right = thumb.getRaster().getSample(x + 1, y, 0);
+                if (left > right) {
+                    hash[bit / 64] |= 1L << (bit % 64);
+                }
+                bit++;
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long[] a, long[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Long.bitCount(a[i] ^ b[i]);
+        }
+        return distance;
+    }
+}
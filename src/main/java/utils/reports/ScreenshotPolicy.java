@@ -0,0 +1,34 @@
+package utils.reports;
+
+import utils.config.ConfigReader;
+
+/**
+ * When Hooks captures a screenshot after a step. Set with {@code screenshot.policy}.
+ *
+ * ALWAYS     - every step (previous behaviour)
+ * ON_FAILURE - only failed steps
+ * ON_CHANGE  - failed steps, plus any step whose page differs from the last captured frame
+ *              of the scenario (see {@link PerceptualHash})
+ */
+public enum ScreenshotPolicy {
+    ALWAYS,
+    ON_FAILURE,
+    ON_CHANGE;
+
+    public static ScreenshotPolicy fromConfig() {
+        return parse(ConfigReader.getProperty("screenshot.policy"));
+    }
+
+    public static ScreenshotPolicy parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALWAYS;
+        }
+        String normalised = value.trim().toUpperCase().replace('-', '_');
+        return switch (normalised) {
+            case "ALWAYS", "EVERYSTEP", "EVERY_STEP" -> ALWAYS;
+            case "ON_FAILURE", "ON_FAILURE_ONLY", "FAILURE" -> ON_FAILURE;
+            case "ON_CHANGE", "CHANGE" -> ON_CHANGE;
+            default -> throw new IllegalArgumentException("❌ Unknown screenshot.policy: " + value);
+        };
+    }
+}
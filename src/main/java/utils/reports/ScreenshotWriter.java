@@ -0,0 +1,107 @@
+package utils.reports;
+
+import static core.TestLogger.LOGGER;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import utils.config.ConfigReader;
+
+/**
+ * Background writer for screenshot PNGs.
+ *
+ * Step threads hand over the captured bytes and carry on; a small daemon pool writes them to disk.
+ * The queue is bounded by {@code screenshot.writer.queue}; when it is full the step thread writes
+ * the file itself, so memory use stays capped. Call {@link #flush(long)} before anything reads the
+ * screenshots folder (report flush, Word export).
+ */
+public class ScreenshotWriter {
+
+    private static final int THREADS = Math.max(1, ConfigReader.getIntProperty("screenshot.writer.threads", 2));
+    private static final int QUEUE_CAPACITY = Math.max(1, ConfigReader.getIntProperty("screenshot.writer.queue", 64));
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            THREADS, THREADS, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "screenshot-writer-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private static final Object pendingLock = new Object();
+    private static int pending = 0;
+
+    private static final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+
+    static {
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues {@code png} to be written to {@code target}. Returns immediately unless the queue is full.
+     */
+    public static void write(Path target, byte[] png) {
+        synchronized (pendingLock) {
+            pending++;
+        }
+        executor.execute(() -> {
+            try {
+                Path parent = target.toAbsolutePath().getParent();
+                if (parent != null && !createdDirectories.contains(parent)) {
+                    Files.createDirectories(parent);
+                    createdDirectories.add(parent);
+                }
+                Files.write(target, png);
+                LOGGER.debug("📸 Screenshot saved: " + target);
+            } catch (IOException e) {
+                LOGGER.error("❌ Failed to save screenshot: " + target + " - " + e.getMessage());
+            } finally {
+                synchronized (pendingLock) {
+                    pending--;
+                    pendingLock.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * Blocks until every queued screenshot has been written or {@code timeoutMs} has passed.
+     *
+     * @return true when nothing is left pending
+     */
+    public static boolean flush(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        synchronized (pendingLock) {
+            while (pending > 0) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    LOGGER.warn("⚠️ " + pending + " screenshot(s) still pending after " + timeoutMs + "ms");
+                    return false;
+                }
+                try {
+                    pendingLock.wait(remainingMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static int getPendingCount() {
+        synchronized (pendingLock) {
+            return pending;
+        }
+    }
+}
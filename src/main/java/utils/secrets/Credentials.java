@@ -0,0 +1,23 @@
+package utils.secrets;
+
+/**
+ * A username / password pair, stored as "username,password" in the keystore.
+ */
+public record Credentials(String username, String password) {
+
+    public static Credentials parse(String alias, String secret) {
+        if (secret == null) {
+            throw new RuntimeException("❌ No credentials found for alias: " + alias);
+        }
+        String[] parts = secret.split(",", 2);
+        if (parts.length < 2) {
+            throw new RuntimeException("❌ Credentials for alias '" + alias + "' are not in 'username,password' form");
+        }
+        return new Credentials(parts[0].trim(), parts[1].trim());
+    }
+
+    @Override
+    public String toString() {
+        return "Credentials[username=" + username + ", password=****]";
+    }
+}
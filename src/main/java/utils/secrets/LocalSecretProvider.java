@@ -0,0 +1,43 @@
+package utils.secrets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Offline stand-in for the keystore: secrets from a map or a properties file (alias=username,password).
+ * Select it with secrets.provider=local, or install one with {@link SecretCache#setProvider(SecretProvider)}.
+ */
+public class LocalSecretProvider implements SecretProvider {
+
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
+
+    public LocalSecretProvider(Map<String, String> secrets) {
+        this.secrets.putAll(secrets);
+    }
+
+    public static LocalSecretProvider fromFile(Path file) {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new RuntimeException("❌ Failed to load local secrets file: " + file, e);
+        }
+        Map<String, String> secrets = new ConcurrentHashMap<>();
+        properties.stringPropertyNames().forEach(alias -> secrets.put(alias, properties.getProperty(alias)));
+        return new LocalSecretProvider(secrets);
+    }
+
+    public void put(String alias, String secret) {
+        secrets.put(alias, secret);
+    }
+
+    @Override
+    public String getSecret(String alias) {
+        return secrets.get(alias);
+    }
+}
@@ -0,0 +1,105 @@
+package utils.secrets;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import utils.config.ConfigReader;
+import utils.jks.JKSReader;
+
+/**
+ * Process-wide cache of decoded secrets.
+ *
+ * Each alias is fetched from the provider once and kept for {@code secrets.cache.ttl.seconds}
+ * (default 15 minutes). The provider is the keystore (credentials.jks, loaded on first use) unless
+ * {@code secrets.provider=local}, which reads {@code secrets.local.file} instead so tests can run
+ * without the keystore or AWS.
+ *
+ * <pre>
+ * Credentials creds = SecretCache.credentials("admin");
+ * </pre>
+ */
+public final class SecretCache {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(
+            Math.max(0, ConfigReader.getIntProperty("secrets.cache.ttl.seconds", 900)));
+
+    private record Entry(String secret, long expiresAt) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private static volatile SecretProvider provider;
+
+    private SecretCache() {
+    }
+
+    /**
+     * The secret stored under {@code alias}.
+     */
+    public static String get(String alias) {
+        Entry entry = entries.get(alias);
+        if (entry == null || entry.isExpired()) {
+            entry = entries.compute(alias, (key, existing) -> {
+                if (existing != null && !existing.isExpired()) {
+                    return existing; // another thread refreshed it first
+                }
+                String secret = provider().getSecret(key);
+                if (secret == null) {
+                    throw new RuntimeException("❌ No secret found for alias: " + key);
+                }
+                return new Entry(secret, System.nanoTime() + TTL_NANOS);
+            });
+        }
+        return entry.secret();
+    }
+
+    /**
+     * The "username,password" secret under {@code alias}, split and trimmed.
+     */
+    public static Credentials credentials(String alias) {
+        return Credentials.parse(alias, get(alias));
+    }
+
+    /**
+     * Replaces the provider (e.g. a {@link LocalSecretProvider} in tests) and empties the cache.
+     */
+    public static void setProvider(SecretProvider newProvider) {
+        provider = newProvider;
+        entries.clear();
+    }
+
+    public static void invalidate(String alias) {
+        entries.remove(alias);
+    }
+
+    public static void invalidateAll() {
+        entries.clear();
+    }
+
+    private static SecretProvider provider() {
+        SecretProvider current = provider;
+        if (current == null) {
+            synchronized (SecretCache.class) {
+                current = provider;
+                if (current == null) {
+                    current = createConfiguredProvider();
+                    provider = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static SecretProvider createConfiguredProvider() {
+        if ("local".equalsIgnoreCase(ConfigReader.getProperty("secrets.provider"))) {
+            String file = ConfigReader.getProperty("secrets.local.file");
+            System.out.println("🔐 Using local secrets file: " + file);
+            return LocalSecretProvider.fromFile(Path.of(file));
+        }
+        return JKSReader::getSharedSecret;
+    }
+}
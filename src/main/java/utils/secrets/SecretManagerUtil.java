@@ -5,17 +5,30 @@ import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SecretManagerUtil {
 
 	private static final Dotenv dotenv = DotenvLoader.getDotenv();
 
+	// Resolved secrets by name, so each one is looked up (and logged) once per process
+	private static final Map<String, String> resolved = new ConcurrentHashMap<>();
+	private static volatile SecretsManagerClient client;
+
     /**
      * Attempts to retrieve a secret in the following order:
      * 1. AWS Secrets Manager (if configured)
      * 2. Environment variable (System.getenv)
      * 3. .env file (via Dotenv)
+     *
+     * The result is cached for the life of the process.
      */
     public static String getSecret(String secretName, String envVarName) {
+        return resolved.computeIfAbsent(secretName + "|" + envVarName, k -> lookupSecret(secretName, envVarName));
+    }
+
+    private static String lookupSecret(String secretName, String envVarName) {
         
         // 1. Try system environment variable
         String envValue = System.getenv(envVarName);
@@ -33,11 +46,10 @@ public class SecretManagerUtil {
     	
     	// 3. Try AWS Secrets Manager
         try {
-            SecretsManagerClient client = SecretsManagerClient.create();
             GetSecretValueRequest request = GetSecretValueRequest.builder()
                     .secretId(secretName)
                     .build();
-            GetSecretValueResponse response = client.getSecretValue(request);
+            GetSecretValueResponse response = client().getSecretValue(request);
 
             String secretString = response.secretString();
             if (secretString != null && !secretString.isEmpty()) {
@@ -52,6 +64,21 @@ public class SecretManagerUtil {
     }
 
 
+    // One client for the process; creating one resolves credentials and region and builds an HTTP client
+    private static SecretsManagerClient client() {
+        SecretsManagerClient current = client;
+        if (current == null) {
+            synchronized (SecretManagerUtil.class) {
+                current = client;
+                if (current == null) {
+                    current = SecretsManagerClient.create();
+                    client = current;
+                }
+            }
+        }
+        return current;
+    }
+
     // 🔐 Use this for JKS password retrieval
     public static String getJksPassword() {
     	return getSecret("jks_password_secret", "JKS_PASSWORD");
@@ -0,0 +1,12 @@
+package utils.secrets;
+
+/**
+ * Where {@link SecretCache} gets secrets from.
+ */
+public interface SecretProvider {
+
+    /**
+     * The secret stored under {@code alias}, or null when this provider does not have it.
+     */
+    String getSecret(String alias);
+}
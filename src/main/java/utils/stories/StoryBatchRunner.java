@@ -2,18 +2,41 @@ package utils.stories;
 
 import java.io.File;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import core.WebDriverManager;
+import utils.config.ConfigReader;
+
+/**
+ * Runs every story JSON under {@code src/test/resources/stories/}.
+ *
+ * With {@code stories.parallel.workers} above 1, stories run concurrently on that many worker threads
+ * (capped at {@code webdriver.pool.size}), longest first according to {@link StoryScheduler}. Each
+ * story holds one browser for its whole run, works on its own copy of its spreadsheet under
+ * {@code results/<story>/} and reports into its own folder under the batch's report directory.
+ */
 public class StoryBatchRunner {
 
     private static final String STORIES_DIR = "src/test/resources/stories/";
 
+    private record StoryResult(Path storyFile, byte exitStatus, Duration duration, Exception error) {}
+
     public static void runAllStories() {
         try {
             System.out.println("🧹 Clearing results folder...");
             utils.excel.ExcelFileManager.clearResultsFolder("results"); // Clear ONCE at batch start
-        	
+
             List<File> storyFiles = findAllStoryJsonFiles(new File(STORIES_DIR));
 
             if (storyFiles.isEmpty()) {
@@ -21,14 +44,26 @@ public class StoryBatchRunner {
                 return;
             }
 
+            StoryScheduler scheduler = StoryScheduler.fromConfig();
+            int workers = Math.max(1, ConfigReader.getIntProperty("stories.parallel.workers", 1));
+            if (workers > 1) {
+                runInParallel(storyFiles, workers, scheduler);
+                return;
+            }
+
             for (File storyFile : storyFiles) {
                 System.out.println("\n🧩 Starting story: " + storyFile.getName());
+                long start = System.nanoTime();
 
-                // Each file will be passed one at a time to StoryReader
-                StoryReader.runSingleStory(storyFile);
-
-                // Important: Clean up StoryContext after each story finishes
-                utils.context.StoryContext.clear();
+                try {
+                    // Each file will be passed one at a time to StoryReader
+                    StoryReader.runSingleStory(storyFile);
+                } finally {
+                    // Important: Clean up StoryContext after each story finishes
+                    utils.context.StoryContext.clear();
+                    scheduler.record(storyFile.toPath(), Duration.ofNanos(System.nanoTime() - start));
+                    scheduler.save();
+                }
             }
 
             System.out.println("\n✅ All stories executed!");
@@ -38,6 +73,114 @@ public class StoryBatchRunner {
         }
     }
 
+    private static void runInParallel(List<File> storyFiles, int requestedWorkers, StoryScheduler scheduler) throws InterruptedException {
+        int workers = Math.min(requestedWorkers, Math.min(storyFiles.size(), WebDriverManager.getPoolSize()));
+        if (workers < requestedWorkers) {
+            System.out.println("ℹ️ Running " + workers + " story workers (requested " + requestedWorkers
+                    + ", webdriver.pool.size=" + WebDriverManager.getPoolSize() + ", stories=" + storyFiles.size() + ")");
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+        String batchReportDir = "../test-reports/" + core.Hooks.reportNameFromConfig + "_" + timestamp;
+
+        List<Path> ordered = scheduler.order(storyFiles.stream().map(File::toPath).toList());
+        System.out.println("🗓️ Story order (longest first):");
+        ordered.forEach(story -> {
+            long estimate = scheduler.estimate(story);
+            System.out.println("   " + story.getFileName() + (estimate >= 0 ? " ~" + Duration.ofMillis(estimate).toSeconds() + "s" : " (no history)"));
+        });
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread thread = new Thread(r, "story-worker-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<StoryResult>> futures = new ArrayList<>();
+        // A fixed pool takes queued tasks in order, so each free worker picks the longest story left
+        for (Path story : ordered) {
+            futures.add(pool.submit(() -> runIsolated(story, batchReportDir, scheduler)));
+        }
+        pool.shutdown();
+
+        List<StoryResult> results = new ArrayList<>();
+        try {
+            for (Future<StoryResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("❌ Story worker failed unexpectedly", e.getCause());
+        } finally {
+            pool.shutdownNow();
+            scheduler.save();
+            // Story-scoped reports skip quitAll in Hooks; every lease is released by now, so quit the pool here
+            try {
+                WebDriverManager.quitAll();
+            } catch (Exception e) {
+                System.out.println("⚠️ Failed to quit browsers after story batch: " + e.getMessage());
+            }
+        }
+
+        System.out.println("\n📋 Story batch summary (" + workers + " workers):");
+        List<StoryResult> failed = new ArrayList<>();
+        for (StoryResult result : results) {
+            boolean ok = result.error() == null && result.exitStatus() == 0;
+            if (!ok) {
+                failed.add(result);
+            }
+            String detail = result.error() != null ? " - error: " + result.error().getMessage()
+                    : !ok ? " - scenarios failed (exit status " + result.exitStatus() + ")" : "";
+            System.out.println("   " + (ok ? "✅ " : "❌ ") + result.storyFile().getFileName() + " in "
+                    + result.duration().toSeconds() + "s" + detail);
+        }
+        if (!failed.isEmpty()) {
+            List<String> errored = failed.stream().filter(r -> r.error() != null)
+                    .map(r -> r.storyFile().getFileName().toString()).toList();
+            List<String> scenarioFailures = failed.stream().filter(r -> r.error() == null)
+                    .map(r -> r.storyFile().getFileName().toString()).toList();
+            RuntimeException error = new RuntimeException("❌ " + failed.size() + " of " + results.size()
+                    + " stories failed (errored: " + errored + ", failing scenarios: " + scenarioFailures + ")");
+            failed.stream().map(StoryResult::error).filter(e -> e != null).forEach(error::addSuppressed);
+            throw error;
+        }
+
+        System.out.println("\n✅ All stories executed!");
+    }
+
+    // Runs on a worker thread: StoryContext, the browser lease and the report session are all per thread
+    private static StoryResult runIsolated(Path storyFile, String batchReportDir, StoryScheduler scheduler) {
+        String storyFolder = storyFolderName(storyFile);
+        System.out.println("\n🧩 Starting story: " + storyFile.getFileName() + " on " + Thread.currentThread().getName());
+        long start = System.nanoTime();
+        try {
+            WebDriverManager.holdDriver();
+            byte exitStatus = StoryReader.runSingleStory(storyFile.toFile(),
+                    batchReportDir + "/" + storyFolder, "results/" + storyFolder);
+            return new StoryResult(storyFile, exitStatus, Duration.ofNanos(System.nanoTime() - start), null);
+        } catch (Exception e) {
+            System.out.println("❌ Story " + storyFile.getFileName() + " failed: " + e.getMessage());
+            return new StoryResult(storyFile, (byte) 1, Duration.ofNanos(System.nanoTime() - start), e);
+        } finally {
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            try {
+                WebDriverManager.releaseHeldDriver();
+            } catch (Exception e) {
+                System.out.println("⚠️ Failed to release browser after " + storyFile.getFileName() + ": " + e.getMessage());
+            }
+            utils.context.StoryContext.clear();
+            scheduler.record(storyFile, duration);
+        }
+    }
+
+    // Relative path under the stories folder, so same-named files in different folders don't collide
+    private static String storyFolderName(Path storyFile) {
+        Path root = Path.of(STORIES_DIR).toAbsolutePath().normalize();
+        Path absolute = storyFile.toAbsolutePath().normalize();
+        Path relative = absolute.startsWith(root) ? root.relativize(absolute) : storyFile.getFileName();
+        return relative.toString().replaceAll("\\.json$", "").replaceAll("[^a-zA-Z0-9-_]", "_");
+    }
+
     private static List<File> findAllStoryJsonFiles(File directory) throws Exception {
         return Files.walk(directory.toPath())
                 .filter(p -> p.toString().endsWith(".json"))
@@ -11,6 +11,17 @@ import java.io.File;
 public class StoryReader {
 
     public static void runSingleStory(File storyFile) {
+        runSingleStory(storyFile, null, "results");
+    }
+
+    /**
+     * Runs one story on the current thread.
+     *
+     * @param reportDir     folder for this story's report, or null for the usual timestamped folder
+     * @param resultsFolder where the story's working copy of its spreadsheet is made
+     * @return Cucumber's exit status for the story's features
+     */
+    public static byte runSingleStory(File storyFile, String reportDir, String resultsFolder) {
         ExcelFileManager excel = null;
 
         try {
@@ -22,6 +33,9 @@ public class StoryReader {
             StoryContext.enableStoryMode();
             StoryContext.put("storyName", story.getStoryName());
             StoryContext.put("storyFile", storyFile.getPath());
+            if (reportDir != null) {
+                StoryContext.put("reportDir", reportDir);
+            }
 
             if (story.getSpreadsheet() != null && !story.getSpreadsheet().isEmpty()) {
                 String spreadsheetName = story.getSpreadsheet().get(0);
@@ -32,7 +46,7 @@ public class StoryReader {
                     throw new RuntimeException("❌ Spreadsheet not found: " + originalPath);
                 }
 
-                String workingCopyPath = ExcelFileManager.createWorkingCopy(originalPath, "results");
+                String workingCopyPath = ExcelFileManager.createWorkingCopy(originalPath, resultsFolder);
                 StoryContext.put("spreadsheet", workingCopyPath);
                 System.out.println("🧾 Spreadsheet loaded into StoryContext: " + workingCopyPath);
 
@@ -42,9 +56,8 @@ public class StoryReader {
                 System.out.println("ℹ️ No spreadsheet defined for story: " + story.getStoryName());
             }
 
-            for (String featurePath : story.getFeatures()) {
-                StoryRunner.runFeatureFile(featurePath);
-            }
+            // One Cucumber runtime for the whole story: glue and report lifecycle run once
+            return StoryRunner.runFeatures(story.getFeatures());
 
         } catch (Exception e) {
             throw new RuntimeException("❌ Failed to run story from file: " + storyFile.getName(), e);
@@ -0,0 +1,57 @@
+package utils.stories;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import utils.timing.ShardPlanner;
+import utils.timing.TimingStore;
+
+/**
+ * Orders stories longest-first from how long they took on earlier runs.
+ *
+ * Handing the longest remaining story to whichever worker frees up first (LPT scheduling) keeps one
+ * long story from starting last and holding up the whole batch. Story durations are kept in the
+ * shared {@link TimingStore}; stories without history are estimated at the average of those with.
+ */
+public class StoryScheduler {
+
+    private final TimingStore store;
+
+    public StoryScheduler(TimingStore store) {
+        this.store = store;
+    }
+
+    public static StoryScheduler fromConfig() {
+        return new StoryScheduler(TimingStore.shared());
+    }
+
+    /**
+     * {@code storyFiles} sorted by expected duration, longest first. Ties keep their original order.
+     */
+    public List<Path> order(List<Path> storyFiles) {
+        Map<String, Long> estimates = ShardPlanner.estimates(store, TimingStore.STORY,
+                storyFiles.stream().map(StoryScheduler::key).toList());
+        return ShardPlanner.longestFirst(estimates).stream().map(Path::of).toList();
+    }
+
+    /**
+     * Expected duration in ms, or -1 when the story has never been recorded.
+     */
+    public long estimate(Path storyFile) {
+        return store.estimate(TimingStore.STORY, key(storyFile));
+    }
+
+    public void record(Path storyFile, Duration duration) {
+        store.record(TimingStore.STORY, key(storyFile), duration);
+    }
+
+    public void save() {
+        store.save();
+    }
+
+    private static String key(Path storyFile) {
+        return TimingStore.pathId(storyFile);
+    }
+}
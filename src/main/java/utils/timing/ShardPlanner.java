@@ -0,0 +1,83 @@
+package utils.timing;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Splits work items (features, stories) into shards with roughly equal expected duration.
+ *
+ * Uses LPT (longest processing time first): items are taken longest first and each goes to the shard
+ * with the least work so far. The result is never worse than 4/3 of the best possible makespan.
+ * Items with no recorded duration are estimated at the average of those with one.
+ */
+public final class ShardPlanner {
+
+    /**
+     * One shard: its items in the order they should run, and the expected total in ms.
+     */
+    public record Shard(int index, List<String> items, long expectedMillis) {}
+
+    private ShardPlanner() {
+    }
+
+    /**
+     * Expected duration per item from {@code store} (kind STORY, FEATURE, ...), unknown items
+     * filled in with the average of the known ones. Keeps the order of {@code ids}.
+     */
+    public static Map<String, Long> estimates(TimingStore store, String kind, List<String> ids) {
+        Map<String, Long> known = new LinkedHashMap<>();
+        for (String id : ids) {
+            known.put(id, store.estimate(kind, id));
+        }
+        long fallback = Math.round(known.values().stream().filter(ms -> ms >= 0).mapToLong(Long::longValue).average().orElse(0));
+        known.replaceAll((id, ms) -> ms >= 0 ? ms : fallback);
+        return known;
+    }
+
+    /**
+     * Item ids sorted longest first; ties keep their original order.
+     */
+    public static List<String> longestFirst(Map<String, Long> estimates) {
+        List<String> ordered = new ArrayList<>(estimates.keySet());
+        ordered.sort(Comparator.comparingLong((String id) -> estimates.get(id)).reversed());
+        return ordered;
+    }
+
+    /**
+     * LPT assignment of {@code estimates} to {@code shardCount} shards.
+     */
+    public static List<Shard> plan(Map<String, Long> estimates, int shardCount) {
+        int count = Math.max(1, shardCount);
+        List<List<String>> items = new ArrayList<>(count);
+        long[] loads = new long[count];
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(i -> loads[i]).thenComparingInt(i -> i));
+        for (int i = 0; i < count; i++) {
+            items.add(new ArrayList<>());
+            leastLoaded.add(i);
+        }
+        for (String id : longestFirst(estimates)) {
+            int shard = leastLoaded.poll();
+            items.get(shard).add(id);
+            loads[shard] += estimates.get(id);
+            leastLoaded.add(shard);
+        }
+        List<Shard> shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            shards.add(new Shard(i, Collections.unmodifiableList(items.get(i)), loads[i]));
+        }
+        return shards;
+    }
+
+    /**
+     * Expected wall time of a plan: its busiest shard.
+     */
+    public static long makespan(List<Shard> shards) {
+        return shards.stream().mapToLong(Shard::expectedMillis).max().orElse(0);
+    }
+}
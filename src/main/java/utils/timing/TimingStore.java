@@ -0,0 +1,228 @@
+package utils.timing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import utils.config.ConfigReader;
+
+/**
+ * File-backed history of how long stories, features, scenarios and steps take, kept across runs.
+ *
+ * Entries are keyed {@code kind:id} (see {@link #key(String, String)}) and hold a smoothed estimate
+ * (half previous estimate, half latest run), the latest duration and the number of runs seen. The
+ * shared store lives in {@code timing.store.file}; {@link listeners.TimingRecorder} fills it from the
+ * Cucumber event bus and {@link ShardPlanner} reads it to balance work.
+ *
+ * {@link #save()} merges with whatever is on disk, so concurrent runs lose at most each other's
+ * latest sample for the same key rather than whole entries.
+ */
+public final class TimingStore {
+
+    public static final String STORY = "story";
+    public static final String FEATURE = "feature";
+    public static final String SCENARIO = "scenario";
+    public static final String STEP = "step";
+
+    // Folder feature files live under, on the classpath and in src/test/resources
+    private static final String FEATURES_ROOT = "features";
+
+    private static volatile TimingStore shared;
+
+    private final Path file;
+    private final Map<String, Timing> timings = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> dirty = new ConcurrentHashMap<>();
+
+    /**
+     * One entry: smoothed estimate and latest duration in ms, and how many runs fed it.
+     */
+    public record Timing(long estimateMillis, long lastMillis, int runs) {
+
+        Timing next(long millis) {
+            return new Timing((estimateMillis + millis) / 2, millis, runs + 1);
+        }
+
+        String format() {
+            return estimateMillis + "," + lastMillis + "," + runs;
+        }
+
+        static Timing parse(String value) {
+            String[] parts = value.split(",");
+            long estimate = Long.parseLong(parts[0].trim());
+            long last = parts.length > 1 ? Long.parseLong(parts[1].trim()) : estimate;
+            int runs = parts.length > 2 ? Integer.parseInt(parts[2].trim()) : 1;
+            return new Timing(estimate, last, runs);
+        }
+    }
+
+    public TimingStore(Path file) {
+        this.file = file;
+        timings.putAll(read(file));
+    }
+
+    /**
+     * The store at {@code timing.store.file} (default ../test-reports/timings.properties), loaded once.
+     */
+    public static TimingStore shared() {
+        TimingStore store = shared;
+        if (store == null) {
+            synchronized (TimingStore.class) {
+                store = shared;
+                if (store == null) {
+                    String file = ConfigReader.getProperty("timing.store.file");
+                    store = new TimingStore(Path.of(file.isEmpty() ? "../test-reports/timings.properties" : file));
+                    shared = store;
+                }
+            }
+        }
+        return store;
+    }
+
+    public static String key(String kind, String id) {
+        return kind + ":" + id;
+    }
+
+    /**
+     * Canonical id for a feature: its path below the {@code features} folder with '/' separators, so
+     * {@code classpath:features/Login/login.feature} (JUnit suite), {@code file:.../src/test/resources/features/Login/login.feature}
+     * (CLI runs) and {@code src/test/resources/features/Login/login.feature} (ShardPlan) all give
+     * {@code Login/login.feature}. Features outside a features folder fall back to {@link #pathId(Path)}.
+     */
+    public static String featureId(URI uri) {
+        if ("classpath".equals(uri.getScheme())) {
+            String path = uri.getSchemeSpecificPart().replace('\\', '/');
+            while (path.startsWith("/")) {
+                path = path.substring(1);
+            }
+            String relative = belowFeaturesRoot(path);
+            return relative != null ? relative : path;
+        }
+        if (!"file".equals(uri.getScheme())) {
+            return uri.toString();
+        }
+        return featureId(Path.of(uri));
+    }
+
+    public static String featureId(Path path) {
+        String relative = belowFeaturesRoot(path.toAbsolutePath().normalize().toString().replace('\\', '/'));
+        return relative != null ? relative : pathId(path);
+    }
+
+    /**
+     * A file's path relative to the working directory with '/' separators (absolute when outside it).
+     */
+    public static String pathId(Path path) {
+        Path absolute = path.toAbsolutePath().normalize();
+        Path workingDir = Path.of("").toAbsolutePath();
+        Path relative = absolute.startsWith(workingDir) ? workingDir.relativize(absolute) : absolute;
+        return relative.toString().replace('\\', '/');
+    }
+
+    // What follows the last "features" folder in a '/' separated path, or null when there is none
+    private static String belowFeaturesRoot(String path) {
+        String marker = FEATURES_ROOT + "/";
+        if (path.startsWith(marker)) {
+            return path.substring(marker.length());
+        }
+        int index = path.lastIndexOf("/" + marker);
+        return index >= 0 ? path.substring(index + marker.length() + 1) : null;
+    }
+
+    public void record(String kind, String id, Duration duration) {
+        String key = key(kind, id);
+        long millis = Math.max(0, duration.toMillis());
+        timings.merge(key, new Timing(millis, millis, 1), (previous, latest) -> previous.next(millis));
+        dirty.put(key, Boolean.TRUE);
+    }
+
+    public Timing get(String kind, String id) {
+        return timings.get(key(kind, id));
+    }
+
+    /**
+     * Smoothed duration in ms, or -1 when {@code id} has never been recorded.
+     */
+    public long estimate(String kind, String id) {
+        Timing timing = get(kind, id);
+        return timing != null ? timing.estimateMillis() : -1;
+    }
+
+    /**
+     * Every entry of {@code kind}, by id.
+     */
+    public Map<String, Timing> entries(String kind) {
+        String prefix = kind + ":";
+        Map<String, Timing> result = new TreeMap<>();
+        timings.forEach((key, timing) -> {
+            if (key.startsWith(prefix)) {
+                result.put(key.substring(prefix.length()), timing);
+            }
+        });
+        return result;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Writes entries recorded since the last save over the current file contents.
+     */
+    public synchronized void save() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+        Map<String, Timing> merged = new TreeMap<>(read(file));
+        for (String key : dirty.keySet()) {
+            dirty.remove(key);
+            Timing timing = timings.get(key);
+            if (timing != null) {
+                merged.put(key, timing);
+            }
+        }
+        Properties properties = new Properties();
+        merged.forEach((key, timing) -> properties.setProperty(key, timing.format()));
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "timings", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "Durations in ms: estimate,last,runs");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not save timings to " + file + ": " + e.getMessage());
+        }
+    }
+
+    private static Map<String, Timing> read(Path file) {
+        Map<String, Timing> result = new TreeMap<>();
+        if (!Files.isRegularFile(file)) {
+            return result;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read timings from " + file + ": " + e.getMessage());
+            return result;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                result.put(key, Timing.parse(properties.getProperty(key)));
+            } catch (RuntimeException ignored) {
+                // hand-edited or corrupt entry; treated as never recorded
+            }
+        }
+        return result;
+    }
+}
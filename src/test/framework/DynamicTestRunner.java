@@ -28,6 +28,8 @@ public class DynamicTestRunner {
             command.add("commonsteps,tests.stepdefinitions"); // Include shared + local
             command.add("--plugin");
             command.add("null"); // ✅ disables default Cucumber output plugins
+            command.add("--plugin");
+            command.add("listeners.TimingRecorder"); // feeds the timing store used for shard planning
             command.add("src/test/resources/features");
 
             ProcessBuilder pb = new ProcessBuilder(command);